@@ -5,10 +5,13 @@
 export const API_BASE_URL = 'http://localhost:8080/api'
 
 export const API_ENDPOINTS = {
+  PORTFOLIO: `${API_BASE_URL}/portfolio`,
   PROFILE: `${API_BASE_URL}/profile`,
   SKILLS: `${API_BASE_URL}/skills`,
   PROJECTS: `${API_BASE_URL}/projects`,
   PROJECTS_FEATURED: `${API_BASE_URL}/projects/featured`,
+  PROJECTS_BY_TAG: (technology: string) => `${API_BASE_URL}/projects/tag/${encodeURIComponent(technology)}`,
+  PROJECT_TAGS: `${API_BASE_URL}/projects/tags`,
   HOBBIES: `${API_BASE_URL}/hobbies`,
   EXPERIENCES: `${API_BASE_URL}/experiences`,
   CONTACTS: `${API_BASE_URL}/contacts`,
@@ -2,13 +2,21 @@ import { useEffect, useState } from 'react'
 import { Profile, Skill, Project, Hobby, Experience } from '../types'
 import { API_ENDPOINTS } from '../constants/api'
 
+interface PortfolioResponse {
+  profile: Profile | null
+  skills: Skill[]
+  projects: Project[]
+  hobbies: Hobby[]
+  experiences: Experience[]
+}
+
 /**
  * Custom hook for fetching and managing portfolio data
  *
  * Features:
  * - Fetches all portfolio data from API endpoints
  * - Handles loading and error states
- * - Uses Promise.all for parallel API calls
+ * - Loads every section from the aggregated /api/portfolio endpoint
  * - Provides consistent error handling
  */
 export function usePortfolioData() {
@@ -26,40 +34,18 @@ export function usePortfolioData() {
         setLoading(true)
         setError(null)
 
-        // Fetch all data in parallel for better performance
-        const [profileRes, skillsRes, projectsRes, hobbiesRes, experiencesRes] = await Promise.all([
-          fetch(API_ENDPOINTS.PROFILE),
-          fetch(API_ENDPOINTS.SKILLS),
-          fetch(API_ENDPOINTS.PROJECTS),
-          fetch(API_ENDPOINTS.HOBBIES),
-          fetch(API_ENDPOINTS.EXPERIENCES),
-        ])
-
-        // Handle each response individually to avoid failing all if one fails
-        if (profileRes.ok) {
-          const profileData = await profileRes.json()
-          setProfile(profileData)
-        }
-
-        if (skillsRes.ok) {
-          const skillsData = await skillsRes.json()
-          setSkills(skillsData)
+        // Fetch the whole portfolio in a single request
+        const response = await fetch(API_ENDPOINTS.PORTFOLIO)
+        if (!response.ok) {
+          throw new Error(`Portfolio request failed with status ${response.status}`)
         }
 
-        if (projectsRes.ok) {
-          const projectsData = await projectsRes.json()
-          setProjects(projectsData)
-        }
-
-        if (hobbiesRes.ok) {
-          const hobbiesData = await hobbiesRes.json()
-          setHobbies(hobbiesData)
-        }
-
-        if (experiencesRes.ok) {
-          const experiencesData = await experiencesRes.json()
-          setExperiences(experiencesData)
-        }
+        const data: PortfolioResponse = await response.json()
+        setProfile(data.profile ?? null)
+        setSkills(data.skills ?? [])
+        setProjects(data.projects ?? [])
+        setHobbies(data.hobbies ?? [])
+        setExperiences(data.experiences ?? [])
 
       } catch (err) {
         console.error('Error fetching portfolio data:', err)
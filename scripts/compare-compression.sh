@@ -0,0 +1,93 @@
+#!/bin/bash
+
+# Compare bytes on the wire and latency of the JSON API with and without
+# response compression and HTTP/2. Boots the packaged jar once per mode, measures
+# single responses with curl (also over a rate-limited link, to approximate a
+# mobile connection) and drives it with the load-test driver.
+#
+# Modes:
+#   http1-identity  compression and HTTP/2 off on the server, plain HTTP/1.1 client
+#   http1-gzip      server defaults, HTTP/1.1 client sending Accept-Encoding: gzip
+#   h2c-gzip        server defaults, HTTP/2 (h2c) client sending Accept-Encoding: gzip
+#
+# Environment overrides:
+#   CONCURRENCY  concurrent clients (default 64)
+#   DURATION     measured run as ISO-8601 duration (default PT30S)
+#   MIX          weighted request mix for the driver
+#   LIMIT_RATE   curl --limit-rate for the slow-link timing (default 64k bytes/s)
+#   APP_ARGS     extra application arguments; contact rate limiting is off because
+#                all load comes from one address
+set -e
+
+PORT=${PORT:-18080}
+CONCURRENCY=${CONCURRENCY:-64}
+DURATION=${DURATION:-PT30S}
+MIX=${MIX:-"GET /api/projects=10,GET /api/experiences=10,GET /api/contacts=5,GET /api/portfolio=5"}
+LIMIT_RATE=${LIMIT_RATE:-64k}
+APP_ARGS=${APP_ARGS:-"--portfolio.contacts.rate-limit.enabled=false"}
+ENDPOINTS="/api/projects /api/experiences /api/contacts /api/portfolio"
+JAR=target/portfolio-0.0.1-SNAPSHOT.jar
+OUT=target/load
+MVN_FLAGS="-B -q -Pload-test -Dskip.npm -Dskip.installnodenpm"
+
+cd "$(dirname "$0")/.."
+mkdir -p "$OUT"
+
+if [ ! -f "$JAR" ]; then
+    echo "Packaging application..."
+    mvn -B -q package -DskipTests
+fi
+mvn $MVN_FLAGS test-compile
+
+SIZES="$OUT/wire-sizes.txt"
+printf "%-16s %-20s %12s %12s %14s\n" "mode" "endpoint" "bytes" "local ms" "$LIMIT_RATE/s ms" > "$SIZES"
+
+for mode in http1-identity http1-gzip h2c-gzip; do
+    echo "=== $mode ==="
+    case $mode in
+        http1-identity)
+            server_args="--server.compression.enabled=false --server.http2.enabled=false"
+            curl_args=""
+            http2=false; gzip=false ;;
+        http1-gzip)
+            server_args=""
+            curl_args="--http1.1 --compressed"
+            http2=false; gzip=true ;;
+        h2c-gzip)
+            server_args=""
+            curl_args="--http2-prior-knowledge --compressed"
+            http2=true; gzip=true ;;
+    esac
+
+    java -jar "$JAR" --server.port="$PORT" $server_args $APP_ARGS > "$OUT/app-$mode.log" 2>&1 &
+    APP_PID=$!
+    trap 'kill $APP_PID 2>/dev/null' EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:$PORT/api/profile" > /dev/null && break
+        sleep 1
+    done
+
+    # size_download is the body as transferred, i.e. before curl inflates it
+    for endpoint in $ENDPOINTS; do
+        local_stats=$(curl -s $curl_args -o /dev/null -w "%{size_download} %{time_total}" "http://localhost:$PORT$endpoint")
+        slow_time=$(curl -s $curl_args --limit-rate "$LIMIT_RATE" -o /dev/null -w "%{time_total}" "http://localhost:$PORT$endpoint")
+        echo "$mode $endpoint $local_stats $slow_time" \
+            | awk '{ printf "%-16s %-20s %12d %12.1f %14.1f\n", $1, $2, $3, $4 * 1000, $5 * 1000 }' >> "$SIZES"
+    done
+
+    mvn $MVN_FLAGS exec:java \
+        -Dload.baseUrl="http://localhost:$PORT" \
+        -Dload.concurrency="$CONCURRENCY" \
+        -Dload.duration="$DURATION" \
+        -Dload.mix="$MIX" \
+        -Dload.http2="$http2" \
+        -Dload.gzip="$gzip" \
+        -Dload.report="$OUT/wire-$mode.json"
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null || true
+done
+
+cat "$SIZES"
+echo "Reports: $OUT/wire-sizes.txt, $OUT/wire-{http1-identity,http1-gzip,h2c-gzip}.json"
@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# Compare platform-thread and virtual-thread request handling under the same load.
+# Boots the packaged jar once per mode, drives it with the load-test driver and
+# writes one JSON report per mode to target/load/.
+#
+# Environment overrides:
+#   CONCURRENCY  concurrent clients (default 400, above Tomcat's 200 platform threads)
+#   DURATION     measured run as ISO-8601 duration (default PT30S)
+#   MIX          weighted request mix for the driver
+#   APP_ARGS     extra application arguments; the read cache is off by default so
+#                reads exercise the blocking JPA path, and contact rate limiting is
+#                off because all load comes from one address
+set -e
+
+PORT=${PORT:-18080}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-PT30S}
+MIX=${MIX:-"GET /api/skills=10,GET /api/projects=10,GET /api/experiences=5,POST /api/contacts=2"}
+APP_ARGS=${APP_ARGS:-"--portfolio.cache.enabled=false --portfolio.contacts.rate-limit.enabled=false"}
+JAR=target/portfolio-0.0.1-SNAPSHOT.jar
+OUT=target/load
+MVN_FLAGS="-B -q -Pload-test -Dskip.npm -Dskip.installnodenpm"
+
+cd "$(dirname "$0")/.."
+mkdir -p "$OUT"
+
+if [ ! -f "$JAR" ]; then
+    echo "Packaging application..."
+    mvn -B -q package -DskipTests
+fi
+mvn $MVN_FLAGS test-compile
+
+for virtual in false true; do
+    echo "=== spring.threads.virtual.enabled=$virtual ==="
+    # Pinned-thread traces show up in the app log when a virtual thread blocks inside a monitor
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+        --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" $APP_ARGS \
+        > "$OUT/app-virtual-$virtual.log" 2>&1 &
+    APP_PID=$!
+    trap 'kill $APP_PID 2>/dev/null' EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:$PORT/api/profile" > /dev/null && break
+        sleep 1
+    done
+
+    mvn $MVN_FLAGS exec:java \
+        -Dload.baseUrl="http://localhost:$PORT" \
+        -Dload.concurrency="$CONCURRENCY" \
+        -Dload.duration="$DURATION" \
+        -Dload.mix="$MIX" \
+        -Dload.report="$OUT/threads-virtual-$virtual.json"
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null || true
+    echo "Pinned-thread events: $(grep -c '<== monitors' "$OUT/app-virtual-$virtual.log" || true)"
+done
+
+echo "Reports: $OUT/threads-virtual-false.json, $OUT/threads-virtual-true.json"
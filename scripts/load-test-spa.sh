@@ -0,0 +1,63 @@
+#!/bin/bash
+
+# Replay the SPA + API traffic of first-time visitors against a locally booted app.
+# Boots the packaged jar (which includes the built frontend), drives it with the
+# load-test driver's spa scenario and writes a JSON report to target/load/.
+# Runs offline once the jar and the load-test profile's dependencies are in place.
+#
+# Environment overrides:
+#   CONCURRENCY   concurrent visitors (default 100)
+#   RAMP_UP       period over which visitors start, ISO-8601 (default PT20S)
+#   WARMUP        warm-up after ramp-up, not recorded (default PT10S)
+#   DURATION      measured run as ISO-8601 duration (default PT60S)
+#   SPA_DATA      portfolio (one aggregated request, as the frontend does) or sections (default portfolio)
+#   CONTACT_RATE  share of page loads followed by a contact POST (default 0.02)
+#   APP_ARGS      extra application arguments; contact rate limiting is off by default
+#                 because all load comes from one address
+set -e
+
+PORT=${PORT:-18080}
+CONCURRENCY=${CONCURRENCY:-100}
+RAMP_UP=${RAMP_UP:-PT20S}
+WARMUP=${WARMUP:-PT10S}
+DURATION=${DURATION:-PT60S}
+SPA_DATA=${SPA_DATA:-portfolio}
+CONTACT_RATE=${CONTACT_RATE:-0.02}
+APP_ARGS=${APP_ARGS:-"--portfolio.contacts.rate-limit.enabled=false"}
+JAR=target/portfolio-0.0.1-SNAPSHOT.jar
+OUT=target/load
+MVN_FLAGS="-B -q -Pload-test -Dskip.npm -Dskip.installnodenpm"
+
+cd "$(dirname "$0")/.."
+mkdir -p "$OUT"
+
+if [ ! -f "$JAR" ]; then
+    echo "Packaging application..."
+    mvn -B -q package -DskipTests
+fi
+mvn $MVN_FLAGS test-compile
+
+java -jar "$JAR" --server.port="$PORT" $APP_ARGS > "$OUT/app-spa.log" 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null' EXIT
+
+for _ in $(seq 1 60); do
+    curl -sf "http://localhost:$PORT/api/profile" > /dev/null && break
+    sleep 1
+done
+
+mvn $MVN_FLAGS exec:java \
+    -Dload.baseUrl="http://localhost:$PORT" \
+    -Dload.scenario=spa \
+    -Dload.concurrency="$CONCURRENCY" \
+    -Dload.rampUp="$RAMP_UP" \
+    -Dload.warmup="$WARMUP" \
+    -Dload.duration="$DURATION" \
+    -Dload.spaData="$SPA_DATA" \
+    -Dload.contactRate="$CONTACT_RATE" \
+    -Dload.report="$OUT/spa.json"
+
+kill $APP_PID
+wait $APP_PID 2>/dev/null || true
+
+echo "Report: $OUT/spa.json (application log: $OUT/app-spa.log)"
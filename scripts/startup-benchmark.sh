@@ -0,0 +1,79 @@
+#!/bin/bash
+
+# Measure cold start as time-to-first-request: from launching the JVM until
+# GET /api/portfolio first answers 200. Each mode is started RUNS times and the
+# median, min and max are reported, plus Spring's own "Started ... in" time.
+#
+# Modes:
+#   default     plain jar, default configuration
+#   faststart   plain jar, lazy initialization profile
+#   aot-cds     extracted jar with the AppCDS archive, AOT-generated context, faststart profile
+#
+# Builds with the startup Maven profile first if the CDS archive is missing.
+#
+# Environment overrides:
+#   RUNS      starts per mode (default 5)
+#   PORT      port used by the application (default 18081)
+#   APP_ARGS  extra application arguments for every mode
+set -e
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18081}
+APP_ARGS=${APP_ARGS:-""}
+JAR=target/portfolio-0.0.1-SNAPSHOT.jar
+CDS_DIR=target/cds
+OUT=target/startup
+URL="http://localhost:$PORT/api/portfolio"
+
+cd "$(dirname "$0")/.."
+mkdir -p "$OUT"
+
+if [ ! -f "$CDS_DIR/application.jsa" ]; then
+    echo "Building with -Pstartup (AOT + CDS archive)..."
+    mvn -B -q -Pstartup package -DskipTests
+fi
+
+command_for() {
+    case "$1" in
+        default)   echo "java -jar $JAR" ;;
+        faststart) echo "java -jar $JAR --spring.profiles.active=faststart" ;;
+        aot-cds)   echo "java -XX:SharedArchiveFile=$CDS_DIR/application.jsa -Dspring.aot.enabled=true -jar $CDS_DIR/$(basename "$JAR") --spring.profiles.active=faststart" ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+JSON="["
+for mode in default faststart aot-cds; do
+    echo "=== $mode ==="
+    times=()
+    for run in $(seq 1 "$RUNS"); do
+        log="$OUT/$mode-$run.log"
+        start=$(now_ms)
+        $(command_for "$mode") --server.port="$PORT" $APP_ARGS > "$log" 2>&1 &
+        APP_PID=$!
+        trap 'kill $APP_PID 2>/dev/null' EXIT
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 $APP_PID 2>/dev/null; then
+                echo "Application exited, see $log"
+                exit 1
+            fi
+            sleep 0.02
+        done
+        elapsed=$(( $(now_ms) - start ))
+        times+=("$elapsed")
+        started=$(grep -o 'Started PortfolioApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' || echo "?")
+        echo "  run $run: first request after ${elapsed} ms (context started in ${started} s)"
+        kill $APP_PID
+        wait $APP_PID 2>/dev/null || true
+    done
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    median=${sorted[$(( ${#sorted[@]} / 2 ))]}
+    printf '  median %d ms, min %d ms, max %d ms\n' "$median" "${sorted[0]}" "${sorted[-1]}"
+    [ "$JSON" != "[" ] && JSON="$JSON,"
+    JSON="$JSON{\"mode\":\"$mode\",\"runs\":$RUNS,\"medianMillis\":$median,\"minMillis\":${sorted[0]},\"maxMillis\":${sorted[-1]}}"
+done
+echo "$JSON]" > "$OUT/startup.json"
+echo "Report: $OUT/startup.json"
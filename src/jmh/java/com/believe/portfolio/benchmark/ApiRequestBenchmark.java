@@ -0,0 +1,71 @@
+package com.believe.portfolio.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Full Spring MVC request path of PortfolioApiController (dispatch, controller,
+ * service, message conversion) through MockMvc, without the network stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiRequestBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String skillsETag;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkContexts.start(WebApplicationType.SERVLET, "portfolio.cache.enabled=" + cacheEnabled);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        skillsETag = mockMvc.perform(get("/api/skills")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult skills() throws Exception {
+        return mockMvc.perform(get("/api/skills")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult skillsNotModified() throws Exception {
+        return mockMvc.perform(get("/api/skills").header(HttpHeaders.IF_NONE_MATCH, skillsETag)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult projects() throws Exception {
+        return mockMvc.perform(get("/api/projects")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult experiences() throws Exception {
+        return mockMvc.perform(get("/api/experiences")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult portfolio() throws Exception {
+        return mockMvc.perform(get("/api/portfolio")).andReturn();
+    }
+}
@@ -0,0 +1,40 @@
+package com.believe.portfolio.benchmark;
+
+import com.believe.portfolio.PortfolioApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application for benchmarks that need Spring beans, with its own
+ * in-memory database and request/SQL logging turned down so it does not skew results.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType type, String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.believe.portfolio=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.org.springframework.jdbc.core=WARN",
+                "logging.level.org.springframework.orm.jpa=WARN"));
+        all.addAll(Arrays.asList(properties));
+        return new SpringApplicationBuilder(PortfolioApplication.class)
+                .web(type)
+                .properties(all.toArray(String[]::new))
+                .run();
+    }
+}
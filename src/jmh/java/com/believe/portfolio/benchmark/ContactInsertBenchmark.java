@@ -0,0 +1,72 @@
+package com.believe.portfolio.benchmark;
+
+import com.believe.portfolio.entity.Contact;
+import com.believe.portfolio.repository.ContactRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContactRepository insert throughput: one transaction per row versus one
+ * transaction per JDBC batch. Scores are per inserted row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContactInsertBenchmark {
+
+    private static final int ROWS = 50;
+
+    private ConfigurableApplicationContext context;
+    private ContactRepository contactRepository;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(WebApplicationType.NONE);
+        contactRepository = context.getBean(ContactRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleRowTransactions() {
+        for (Contact contact : newContacts()) {
+            contactRepository.save(contact);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Contact> batchedTransaction() {
+        return contactRepository.saveAll(newContacts());
+    }
+
+    private List<Contact> newContacts() {
+        List<Contact> contacts = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long n = sequence++;
+            Contact contact = new Contact();
+            contact.setName("Benchmark " + n);
+            contact.setEmail("bench" + n + "@example.com");
+            contact.setSubject("Benchmark");
+            contact.setMessage("Message body for benchmark contact " + n);
+            contact.setCreatedAt(LocalDateTime.now());
+            contact.setRead(false);
+            contacts.add(contact);
+        }
+        return contacts;
+    }
+}
@@ -0,0 +1,74 @@
+package com.believe.portfolio.benchmark;
+
+import com.believe.portfolio.entity.Experience;
+import com.believe.portfolio.entity.Project;
+import com.believe.portfolio.entity.Skill;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic entities shaped like the seeded portfolio data (see db/migration/V2__seed_data.sql),
+ * including long TEXT descriptions.
+ */
+final class Fixtures {
+
+    private static final String DESCRIPTION = "Microservices responsible for recharge & bill fetch/payment using Java, "
+            + "spring boot, TDD, JOSE, OAuth, Kafka, Grafana, Prometheus, CI/CD. Features include transaction "
+            + "processing, secure authentication, real-time monitoring, and automated deployment pipelines. ";
+
+    private Fixtures() {
+    }
+
+    static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setId((long) i);
+            project.setName("Project " + i);
+            project.setDescription(DESCRIPTION.repeat(2));
+            project.setImageUrl("https://via.placeholder.com/600x400");
+            project.setGithubUrl("https://github.com/example/project-" + i);
+            project.setLiveUrl("https://project-" + i + ".example.com");
+            project.setTechnologies("Java, Spring Boot, Kafka, Redis, Microservices");
+            project.setCreatedAt(LocalDate.of(2020, 1, 1).plusDays(i));
+            project.setFeatured(i % 3 == 0);
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<Skill> skills(int count) {
+        List<Skill> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Skill skill = new Skill();
+            skill.setId((long) i);
+            skill.setName("Skill " + i);
+            skill.setCategory(i % 2 == 0 ? "Backend" : "Frontend");
+            skill.setIconUrl("https://cdn.jsdelivr.net/gh/devicons/devicon/icons/java/java-original.svg");
+            skill.setProficiency(50 + i % 50);
+            skill.setDescription("Expert in Java and J2EE development with Spring ecosystem");
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    static List<Experience> experiences(int count) {
+        List<Experience> experiences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Experience experience = new Experience();
+            experience.setId((long) i);
+            experience.setTitle("Software Engineer");
+            experience.setCompany("Company " + i);
+            experience.setLocation("Mumbai, India");
+            experience.setStartDate(LocalDate.of(2015, 1, 1).plusMonths(i));
+            experience.setEndDate(LocalDate.of(2016, 1, 1).plusMonths(i));
+            experience.setCurrent(false);
+            experience.setDescription(DESCRIPTION.repeat(8));
+            experience.setCompanyLogoUrl("/logos/billdesk-logo.svg");
+            experiences.add(experience);
+        }
+        return experiences;
+    }
+}
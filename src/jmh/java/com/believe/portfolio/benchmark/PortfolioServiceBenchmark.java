@@ -0,0 +1,72 @@
+package com.believe.portfolio.benchmark;
+
+import com.believe.portfolio.dto.ExperienceView;
+import com.believe.portfolio.dto.ProjectView;
+import com.believe.portfolio.dto.SkillView;
+import com.believe.portfolio.entity.Project;
+import com.believe.portfolio.repository.ProjectRepository;
+import com.believe.portfolio.service.PortfolioService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PortfolioService reads against the seeded H2 database, with the read cache on and off.
+ * {@link #allProjectEntities()} loads the same rows as managed entities for comparison
+ * with the record projections; run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortfolioServiceBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private PortfolioService portfolioService;
+    private ProjectRepository projectRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(WebApplicationType.NONE, "portfolio.cache.enabled=" + cacheEnabled);
+        portfolioService = context.getBean(PortfolioService.class);
+        projectRepository = context.getBean(ProjectRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SkillView> allSkills() {
+        return portfolioService.getAllSkills();
+    }
+
+    @Benchmark
+    public List<SkillView> skillsByCategory() {
+        return portfolioService.getSkillsByCategory("Backend");
+    }
+
+    @Benchmark
+    public List<ProjectView> allProjects() {
+        return portfolioService.getAllProjects();
+    }
+
+    @Benchmark
+    public List<ExperienceView> allExperiences() {
+        return portfolioService.getAllExperiences();
+    }
+
+    @Benchmark
+    public List<Project> allProjectEntities() {
+        return projectRepository.findAll();
+    }
+}
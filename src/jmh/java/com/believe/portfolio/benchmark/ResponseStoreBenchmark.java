@@ -0,0 +1,132 @@
+package com.believe.portfolio.benchmark;
+
+import com.believe.portfolio.dto.PortfolioView;
+import com.believe.portfolio.service.PortfolioSection;
+import com.believe.portfolio.service.PortfolioService;
+import com.believe.portfolio.service.ResponseStore;
+import com.believe.portfolio.web.DirectBufferWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body production for a read request with warm caches: Jackson
+ * serializing the cached views into the response stream (the message converter
+ * path) against writing the stored pre-serialized buffer. Run with
+ * {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseStoreBenchmark {
+
+    private static final Set<PortfolioSection> PORTFOLIO_SECTIONS = EnumSet.of(
+            PortfolioSection.PROFILE,
+            PortfolioSection.SKILLS,
+            PortfolioSection.PROJECTS,
+            PortfolioSection.HOBBIES,
+            PortfolioSection.EXPERIENCES);
+
+    private ConfigurableApplicationContext context;
+    private PortfolioService portfolioService;
+    private ResponseStore responseStore;
+    private ObjectMapper objectMapper;
+    private final DiscardingOutputStream out = new DiscardingOutputStream();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(WebApplicationType.NONE);
+        portfolioService = context.getBean(PortfolioService.class);
+        responseStore = context.getBean(ResponseStore.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long jacksonProjects() throws IOException {
+        objectMapper.writeValue(out, portfolioService.getAllProjects());
+        return out.count;
+    }
+
+    @Benchmark
+    public long storedProjects() throws IOException {
+        ResponseStore.Entry entry = responseStore.get("projects", PortfolioSection.PROJECTS, portfolioService::getAllProjects);
+        DirectBufferWriter.write(out, entry.json().duplicate());
+        return out.count;
+    }
+
+    @Benchmark
+    public long jacksonPortfolio() throws IOException {
+        objectMapper.writeValue(out, portfolio());
+        return out.count;
+    }
+
+    @Benchmark
+    public long storedPortfolio() throws IOException {
+        ResponseStore.Entry entry = responseStore.get("portfolio", PORTFOLIO_SECTIONS, this::portfolio);
+        DirectBufferWriter.write(out, entry.json().duplicate());
+        return out.count;
+    }
+
+    private PortfolioView portfolio() {
+        return new PortfolioView(
+                portfolioService.getProfile(),
+                portfolioService.getAllSkills(),
+                portfolioService.getAllProjects(),
+                portfolioService.getAllHobbies(),
+                portfolioService.getAllExperiences());
+    }
+
+    /**
+     * Stands in for the container's output stream: consumes everything, keeps only a byte count
+     */
+    private static final class DiscardingOutputStream extends ServletOutputStream implements DirectBufferWriter.Sink {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer) {
+            count += buffer.remaining();
+            buffer.position(buffer.limit());
+        }
+
+        @Override
+        public void close() {
+            // Jackson closes the target after writeValue; keep the stream usable
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+    }
+}
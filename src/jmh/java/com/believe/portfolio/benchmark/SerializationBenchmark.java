@@ -0,0 +1,55 @@
+package com.believe.portfolio.benchmark;
+
+import com.believe.portfolio.entity.Experience;
+import com.believe.portfolio.entity.Project;
+import com.believe.portfolio.entity.Skill;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization cost of the list payloads served by the read endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Project> projects;
+    private List<Skill> skills;
+    private List<Experience> experiences;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        projects = Fixtures.projects(size);
+        skills = Fixtures.skills(size);
+        experiences = Fixtures.experiences(size);
+    }
+
+    @Benchmark
+    public byte[] projects() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] skills() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(skills);
+    }
+
+    @Benchmark
+    public byte[] experiences() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(experiences);
+    }
+}
@@ -0,0 +1,447 @@
+package com.believe.portfolio.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load driver for a locally running portfolio instance.
+ *
+ * Each worker (a virtual thread, so the driver itself is never the thread
+ * bottleneck) repeats one unit of work until the run ends. Workers start
+ * evenly spread over the ramp-up period; results recorded after ramp-up and
+ * warm-up are reported per endpoint: throughput, error count and rate, latency
+ * percentiles, plus the average response body size as received (compressed
+ * when the server applied Content-Encoding).
+ *
+ * Two scenarios are available. {@code mix} sends one weighted random request
+ * at a time. {@code spa} replays what a browser does for a first visit: an SPA
+ * route (forwarded to index.html by SpaController), the scripts and styles
+ * index.html references, fetched in parallel, then the data requests the
+ * frontend makes, and now and then a contact form submission. Besides the
+ * individual requests it reports the whole page load.
+ *
+ * Configured with system properties:
+ * <pre>
+ *   load.baseUrl      target (default http://localhost:8080)
+ *   load.scenario     mix or spa (default mix)
+ *   load.concurrency  number of workers (default 64)
+ *   load.rampUp       period over which workers are started (default PT0S)
+ *   load.warmup       warm-up after ramp-up, not recorded (default PT5S)
+ *   load.duration     measured run (default PT30S)
+ *   load.mix          mix scenario: weighted requests, e.g. "GET /api/skills=10,POST /api/contacts=1"
+ *   load.spaData      spa scenario: portfolio (one /api/portfolio request, as usePortfolioData does)
+ *                     or sections (five parallel per-section requests), default portfolio
+ *   load.contactRate  spa scenario: share of page loads followed by a contact POST (default 0.02)
+ *   load.http2        true to negotiate HTTP/2 (h2c upgrade on http://), default HTTP/1.1
+ *   load.gzip         true to send Accept-Encoding: gzip (bodies are counted, not inflated)
+ *   load.report       optional path of a JSON report
+ * </pre>
+ */
+public final class LoadDriver {
+
+    private static final String DEFAULT_MIX =
+            "GET /api/portfolio=10,GET /api/skills=5,GET /api/projects=5,POST /api/contacts=1";
+
+    // Routes forwarded to index.html by SpaController; visitors mostly land on the home page
+    private static final List<String> SPA_ROUTES =
+            List.of("/about", "/skills", "/projects", "/experience", "/hobbies", "/contact");
+    private static final List<String> SECTION_ENDPOINTS =
+            List.of("/api/profile", "/api/skills", "/api/projects", "/api/hobbies", "/api/experiences");
+    private static final Pattern ASSET_REFERENCE =
+            Pattern.compile("(?:src|href)=\"(/[^\"]+\\.(?:js|css|svg|ico|png|webp|woff2?))\"");
+
+    private static final String SPA_PAGE = "GET <spa route>";
+    private static final String PAGE_LOAD = "page load";
+    private static final String CONTACT = "POST /api/contacts";
+
+    private final String baseUrl;
+    private final String scenario;
+    private final int concurrency;
+    private final Duration rampUp;
+    private final Duration warmup;
+    private final Duration duration;
+    private final List<Target> mix;
+    private final boolean sectionData;
+    private final double contactRate;
+    private final boolean http2;
+    private final boolean gzip;
+    private final HttpClient client;
+    private final AtomicLong sequence = new AtomicLong();
+    private List<String> assets = List.of();
+
+    private record Target(String method, String path, int weight) {
+
+        String name() {
+            return method + " " + path;
+        }
+    }
+
+    /**
+     * One completed exchange, timed in nanoseconds
+     */
+    private record Sample(String endpoint, long begin, long end, boolean failed, long bytes) {
+    }
+
+    /**
+     * Per-worker results for one endpoint, merged after the run
+     */
+    private static final class Result {
+        final LatencyHistogram latency = new LatencyHistogram();
+        long errors;
+        long bytes;
+
+        void merge(Result other) {
+            latency.merge(other.latency);
+            errors += other.errors;
+            bytes += other.bytes;
+        }
+
+        long bytesPerRequest() {
+            return latency.count() == 0 ? 0 : bytes / latency.count();
+        }
+
+        double errorRate() {
+            return latency.count() == 0 ? 0 : (double) errors / latency.count();
+        }
+    }
+
+    LoadDriver(String baseUrl, String scenario, int concurrency, Duration rampUp, Duration warmup, Duration duration,
+               List<Target> mix, boolean sectionData, double contactRate, boolean http2, boolean gzip) {
+        if (!"mix".equals(scenario) && !"spa".equals(scenario)) {
+            throw new IllegalArgumentException("Unknown load.scenario: " + scenario);
+        }
+        this.baseUrl = baseUrl;
+        this.scenario = scenario;
+        this.concurrency = concurrency;
+        this.rampUp = rampUp;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.sectionData = sectionData;
+        this.contactRate = contactRate;
+        this.http2 = http2;
+        this.gzip = gzip;
+        this.client = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadDriver driver = new LoadDriver(
+                System.getProperty("load.baseUrl", "http://localhost:8080"),
+                System.getProperty("load.scenario", "mix").toLowerCase(Locale.ROOT),
+                Integer.getInteger("load.concurrency", 64),
+                Duration.parse(System.getProperty("load.rampUp", "PT0S")),
+                Duration.parse(System.getProperty("load.warmup", "PT5S")),
+                Duration.parse(System.getProperty("load.duration", "PT30S")),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                "sections".equalsIgnoreCase(System.getProperty("load.spaData", "portfolio")),
+                Double.parseDouble(System.getProperty("load.contactRate", "0.02")),
+                Boolean.getBoolean("load.http2"),
+                Boolean.getBoolean("load.gzip"));
+        Map<String, Result> results = driver.run();
+        String report = driver.report(results);
+        System.out.println(report);
+        String reportPath = System.getProperty("load.report");
+        if (reportPath != null && !reportPath.isBlank()) {
+            Path path = Path.of(reportPath);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, driver.toJson(results));
+            System.out.println("JSON report written to " + path.toAbsolutePath());
+        }
+    }
+
+    static List<Target> parseMix(String mix) {
+        List<Target> targets = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] requestAndWeight = entry.trim().split("=");
+            String[] methodAndPath = requestAndWeight[0].trim().split("\\s+");
+            int weight = requestAndWeight.length > 1 ? Integer.parseInt(requestAndWeight[1].trim()) : 1;
+            targets.add(new Target(methodAndPath[0].toUpperCase(Locale.ROOT), methodAndPath[1], weight));
+        }
+        return targets;
+    }
+
+    /**
+     * Paths of the scripts, styles and images an index.html references
+     */
+    static List<String> parseAssets(String html) {
+        Set<String> paths = new LinkedHashSet<>();
+        Matcher matcher = ASSET_REFERENCE.matcher(html);
+        while (matcher.find()) {
+            paths.add(matcher.group(1));
+        }
+        return List.copyOf(paths);
+    }
+
+    Map<String, Result> run() throws IOException, InterruptedException {
+        Map<String, Result> merged = new LinkedHashMap<>();
+        if ("spa".equals(scenario)) {
+            assets = discoverAssets();
+            merged.put(PAGE_LOAD, new Result());
+            merged.put(SPA_PAGE, new Result());
+            for (String asset : assets) {
+                merged.put("GET " + asset, new Result());
+            }
+            for (String path : sectionData ? SECTION_ENDPOINTS : List.of("/api/portfolio")) {
+                merged.put("GET " + path, new Result());
+            }
+            merged.put(CONTACT, new Result());
+        } else {
+            for (Target target : mix) {
+                merged.put(target.name(), new Result());
+            }
+        }
+
+        long start = System.nanoTime();
+        long rampUpNanos = rampUp.toNanos();
+        long recordFrom = start + rampUpNanos + warmup.toNanos();
+        long stopAt = recordFrom + duration.toNanos();
+        List<Map<String, Result>> perWorker = new ArrayList<>();
+
+        System.out.printf("Running %d %s workers against %s over %s%s (ramp-up %s, warm-up %s, measured %s)%n",
+                concurrency, scenario, baseUrl, http2 ? "HTTP/2" : "HTTP/1.1", gzip ? " with gzip" : "",
+                rampUp, warmup, duration);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Map<String, Result> results = new LinkedHashMap<>();
+                perWorker.add(results);
+                long startAt = start + rampUpNanos * i / concurrency;
+                workers.submit(() -> work(results, startAt, recordFrom, stopAt));
+            }
+        }
+
+        for (Map<String, Result> results : perWorker) {
+            results.forEach((name, result) -> merged.computeIfAbsent(name, key -> new Result()).merge(result));
+        }
+        return merged;
+    }
+
+    private List<String> discoverAssets() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/")).timeout(Duration.ofSeconds(30)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<String> found = response.statusCode() == 200 ? parseAssets(response.body()) : List.of();
+        if (found.isEmpty()) {
+            System.out.printf("No static assets found in / (status %d); was the frontend built into the jar?%n",
+                    response.statusCode());
+        } else {
+            System.out.println("Static assets per page load: " + found);
+        }
+        return found;
+    }
+
+    private void work(Map<String, Result> results, long startAt, long recordFrom, long stopAt) {
+        try {
+            long delay = startAt - System.nanoTime();
+            if (delay > 0) {
+                Thread.sleep(Duration.ofNanos(delay));
+            }
+            while (System.nanoTime() < stopAt) {
+                if ("spa".equals(scenario)) {
+                    browse(results, recordFrom, stopAt);
+                } else {
+                    Target target = pick();
+                    record(results, exchange(target.name(), request(target)).join(), recordFrom, stopAt);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One first-visit page load: document, then its assets in parallel, then
+     * the data requests in parallel, as the browser only runs them once the
+     * scripts have loaded
+     */
+    private void browse(Map<String, Result> results, long recordFrom, long stopAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String route = random.nextBoolean() ? "/" : SPA_ROUTES.get(random.nextInt(SPA_ROUTES.size()));
+        long begin = System.nanoTime();
+        List<Sample> samples = new ArrayList<>();
+
+        Sample page = exchange(SPA_PAGE, get(route).header("Accept", "text/html").build()).join();
+        samples.add(page);
+        if (!page.failed()) {
+            samples.addAll(all(assets.stream()
+                    .map(asset -> exchange("GET " + asset, get(asset).build()))
+                    .toList()));
+            samples.addAll(all((sectionData ? SECTION_ENDPOINTS : List.of("/api/portfolio")).stream()
+                    .map(path -> exchange("GET " + path, get(path).header("Accept", "application/json").build()))
+                    .toList()));
+        }
+        boolean failed = samples.stream().anyMatch(Sample::failed);
+        long bytes = samples.stream().mapToLong(Sample::bytes).sum();
+        samples.add(new Sample(PAGE_LOAD, begin, System.nanoTime(), failed, bytes));
+
+        if (random.nextDouble() < contactRate) {
+            samples.add(exchange(CONTACT, request(new Target("POST", "/api/contacts", 1))).join());
+        }
+        for (Sample sample : samples) {
+            record(results, sample, recordFrom, stopAt);
+        }
+    }
+
+    private static List<Sample> all(List<CompletableFuture<Sample>> exchanges) {
+        return exchanges.stream().map(CompletableFuture::join).toList();
+    }
+
+    private CompletableFuture<Sample> exchange(String endpoint, HttpRequest request) {
+        long begin = System.nanoTime();
+        return client.sendAsync(request, info -> new ByteCounter())
+                .handle((response, error) -> error != null
+                        ? new Sample(endpoint, begin, System.nanoTime(), true, 0)
+                        : new Sample(endpoint, begin, System.nanoTime(), response.statusCode() >= 400,
+                                response.body()));
+    }
+
+    private static void record(Map<String, Result> results, Sample sample, long recordFrom, long stopAt) {
+        if (sample.begin() >= recordFrom && sample.end() <= stopAt) {
+            Result result = results.computeIfAbsent(sample.endpoint(), name -> new Result());
+            result.latency.record((sample.end() - sample.begin()) / 1_000);
+            result.bytes += sample.bytes();
+            if (sample.failed()) {
+                result.errors++;
+            }
+        }
+    }
+
+    private Target pick() {
+        int totalWeight = 0;
+        for (Target target : mix) {
+            totalWeight += target.weight();
+        }
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Target target : mix) {
+            roll -= target.weight();
+            if (roll < 0) {
+                return target;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        return builder.GET();
+    }
+
+    private HttpRequest request(Target target) {
+        HttpRequest.Builder builder = get(target.path());
+        if ("POST".equals(target.method())) {
+            long n = sequence.incrementAndGet();
+            String body = "{\"name\":\"Load Test " + n + "\",\"email\":\"load" + n + "@example.com\","
+                    + "\"subject\":\"Load test\",\"message\":\"Generated by LoadDriver request " + n + "\"}";
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        return builder.build();
+    }
+
+    String report(Map<String, Result> results) {
+        double seconds = duration.toNanos() / 1e9;
+        int width = Math.max(28, results.keySet().stream().mapToInt(String::length).max().orElse(0) + 1);
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-" + width + "s %10s %10s %8s %7s %9s %9s %9s %9s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "err %", "p50 ms", "p99 ms", "p999 ms", "max ms",
+                "bytes/req"));
+        results.forEach((name, result) -> out.append(String.format(Locale.ROOT,
+                "%-" + width + "s %10d %10.1f %8d %7.2f %9.2f %9.2f %9.2f %9.2f %10d%n",
+                name, result.latency.count(), result.latency.count() / seconds, result.errors,
+                result.errorRate() * 100, result.latency.percentile(50) / 1000.0,
+                result.latency.percentile(99) / 1000.0, result.latency.percentile(99.9) / 1000.0,
+                result.latency.max() / 1000.0, result.bytesPerRequest())));
+        return out.toString();
+    }
+
+    String toJson(Map<String, Result> results) {
+        double seconds = duration.toNanos() / 1e9;
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT,
+                "{\"baseUrl\":\"%s\",\"scenario\":\"%s\",\"protocol\":\"%s\",\"gzip\":%b,\"concurrency\":%d,"
+                        + "\"rampUpSeconds\":%.1f,\"durationSeconds\":%.1f,\"endpoints\":[",
+                baseUrl, scenario, http2 ? "HTTP/2" : "HTTP/1.1", gzip, concurrency, rampUp.toNanos() / 1e9,
+                seconds));
+        String separator = "";
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            LatencyHistogram latency = result.latency;
+            json.append(separator).append(String.format(Locale.ROOT,
+                    "{\"endpoint\":\"%s\",\"requests\":%d,\"throughput\":%.1f,\"errors\":%d,\"errorRate\":%.4f,"
+                            + "\"p50Micros\":%d,\"p99Micros\":%d,\"p999Micros\":%d,\"maxMicros\":%d,"
+                            + "\"bytesPerRequest\":%d}",
+                    entry.getKey(), latency.count(), latency.count() / seconds, result.errors, result.errorRate(),
+                    latency.percentile(50), latency.percentile(99), latency.percentile(99.9), latency.max(),
+                    result.bytesPerRequest()));
+            separator = ",";
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Discards a response body, counting its bytes as they arrive
+     */
+    private static final class ByteCounter implements HttpResponse.BodySubscriber<Long> {
+        private final CompletableFuture<Long> total = new CompletableFuture<>();
+        private long bytes;
+
+        @Override
+        public CompletionStage<Long> getBody() {
+            return total;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                bytes += buffer.remaining();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            total.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            total.complete(bytes);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.believe.portfolio.config;
+
+import com.believe.portfolio.metrics.RepositoryTimingListener;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.lang.NonNull;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Attach {@link RepositoryTimingListener} to every Spring Data repository so
+     * repository time can be attributed to the request that caused it.
+     * Static because BeanPostProcessors are created before regular beans.
+     */
+    @Bean
+    static BeanPostProcessor repositoryTimingPostProcessor() {
+        RepositoryTimingListener listener = new RepositoryTimingListener();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
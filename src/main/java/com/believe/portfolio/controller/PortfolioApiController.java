@@ -1,14 +1,54 @@
 package com.believe.portfolio.controller;
 
+import com.believe.portfolio.dto.BulkImportResult;
+import com.believe.portfolio.dto.ContactCursor;
+import com.believe.portfolio.dto.ContactPage;
+import com.believe.portfolio.dto.ContactReceipt;
+import com.believe.portfolio.dto.PortfolioView;
+import com.believe.portfolio.dto.ProjectView;
+import com.believe.portfolio.dto.SearchHit;
+import com.believe.portfolio.dto.SkillView;
+import com.believe.portfolio.dto.TagCount;
 import com.believe.portfolio.entity.*;
+import com.believe.portfolio.ratelimit.ContactThrottle;
+import com.believe.portfolio.search.SearchIndex;
+import com.believe.portfolio.service.BulkImportService;
+import com.believe.portfolio.service.ContactExportService;
+import com.believe.portfolio.service.ContactFeedService;
+import com.believe.portfolio.service.ContactIngestionService;
+import com.believe.portfolio.service.ContentChangePoller;
+import com.believe.portfolio.service.ContentVersions;
+import com.believe.portfolio.service.PortfolioReadCache;
+import com.believe.portfolio.service.PortfolioSection;
 import com.believe.portfolio.service.PortfolioService;
+import com.believe.portfolio.service.ResponseStore;
+import com.believe.portfolio.web.DirectBufferWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * REST API Controller for Portfolio Management
@@ -18,6 +58,13 @@ import java.util.List;
  * - Skills and technologies
  * - Projects and experience
  * - Hobbies and contact messages
+ *
+ * Read endpoints send a strong ETag and Last-Modified derived from the
+ * section's {@link ContentVersions} entry and answer conditional requests
+ * with 304 Not Modified before touching the service layer. The profile, skill,
+ * project, hobby, experience and portfolio reads write pre-serialized bodies
+ * from the {@link ResponseStore} (gzipped when the client accepts it) instead
+ * of running Jackson per request.
  */
 @RestController
 @RequestMapping("/api")
@@ -25,11 +72,77 @@ import java.util.List;
 @Slf4j
 public class PortfolioApiController {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final Set<PortfolioSection> PORTFOLIO_SECTIONS = EnumSet.of(
+            PortfolioSection.PROFILE,
+            PortfolioSection.SKILLS,
+            PortfolioSection.PROJECTS,
+            PortfolioSection.HOBBIES,
+            PortfolioSection.EXPERIENCES);
+    private static final Set<PortfolioSection> SEARCH_SECTIONS =
+            Set.of(PortfolioSection.SKILLS, PortfolioSection.PROJECTS, PortfolioSection.EXPERIENCES);
+
     private final PortfolioService portfolioService;
+    private final ResponseStore responseStore;
+    private final ContentVersions contentVersions;
+    private final ContactIngestionService contactIngestionService;
+    private final ContactThrottle contactThrottle;
+    private final SearchIndex searchIndex;
+    private final ContactExportService contactExportService;
+    private final ContactFeedService contactFeedService;
+    private final BulkImportService bulkImportService;
+    private final ContentChangePoller contentChangePoller;
 
     @Autowired
-    public PortfolioApiController(PortfolioService portfolioService) {
+    public PortfolioApiController(PortfolioService portfolioService,
+                                  ResponseStore responseStore,
+                                  ContentVersions contentVersions,
+                                  ContactIngestionService contactIngestionService,
+                                  ContactThrottle contactThrottle,
+                                  SearchIndex searchIndex,
+                                  ContactExportService contactExportService,
+                                  ContactFeedService contactFeedService,
+                                  BulkImportService bulkImportService,
+                                  ContentChangePoller contentChangePoller) {
         this.portfolioService = portfolioService;
+        this.responseStore = responseStore;
+        this.contentVersions = contentVersions;
+        this.contactIngestionService = contactIngestionService;
+        this.contactThrottle = contactThrottle;
+        this.searchIndex = searchIndex;
+        this.contactExportService = contactExportService;
+        this.contactFeedService = contactFeedService;
+        this.bulkImportService = bulkImportService;
+        this.contentChangePoller = contentChangePoller;
+    }
+
+    // ===============================
+    // PORTFOLIO SNAPSHOT ENDPOINT
+    // ===============================
+
+    /**
+     * Get the whole portfolio (profile, skills, projects, hobbies, experiences) in one response.
+     * Writes the pre-serialized portfolio JSON with its content version in X-Portfolio-Version.
+     */
+    @GetMapping(value = "/portfolio", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getPortfolio(WebRequest request, HttpServletResponse response) throws IOException {
+        boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseStore.Validators validators = responseStore.validators("portfolio", PORTFOLIO_SECTIONS);
+        if (validators != null) {
+            response.setHeader("X-Portfolio-Version", Long.toString(validators.version()));
+            if (validatorsMatch(validators, acceptsGzip, request, response)) {
+                return;
+            }
+        }
+        ResponseStore.Entry entry = responseStore.get("portfolio", PORTFOLIO_SECTIONS, () -> new PortfolioView(
+                portfolioService.getProfile(),
+                portfolioService.getAllSkills(),
+                portfolioService.getAllProjects(),
+                portfolioService.getAllHobbies(),
+                portfolioService.getAllExperiences()));
+        response.setHeader("X-Portfolio-Version", Long.toString(entry.version()));
+        writeEntry(entry, acceptsGzip, request, response);
     }
 
     // ===============================
@@ -37,15 +150,24 @@ public class PortfolioApiController {
     // ===============================
 
     /**
-     * Get portfolio profile information
-     * @return Profile data or 404 if not found
+     * Get portfolio profile information.
+     * Writes the profile, or answers 404 if there is none. The 404 carries no
+     * validators, so a client never revalidates a profile that does not exist.
      */
-    @GetMapping("/profile")
-    public ResponseEntity<Profile> getProfile() {
-        log.debug("GET /api/profile - Fetching profile data");
-        Profile profile = portfolioService.getProfile();
-        log.debug("Profile data retrieved: {}", profile != null ? "Found" : "Not Found");
-        return profile != null ? ResponseEntity.ok(profile) : ResponseEntity.notFound().build();
+    @GetMapping(value = "/profile", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getProfile(WebRequest request, HttpServletResponse response) throws IOException {
+        boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseStore.Validators validators = responseStore.validators("profile", PortfolioSection.PROFILE);
+        // Answered early only when the stored body of this version is known to hold a profile
+        if (validators != null && validators.present() && validatorsMatch(validators, acceptsGzip, request, response)) {
+            return;
+        }
+        ResponseStore.Entry entry = responseStore.get("profile", PortfolioSection.PROFILE, portfolioService::getProfile);
+        if (entry.empty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        writeEntry(entry, acceptsGzip, request, response);
     }
 
     /**
@@ -66,15 +188,12 @@ public class PortfolioApiController {
     // ===============================
 
     /**
-     * Get all skills
-     * @return List of all skills
+     * Get all skills.
+     * Writes the list of all skills.
      */
-    @GetMapping("/skills")
-    public ResponseEntity<List<Skill>> getAllSkills() {
-        log.debug("GET /api/skills - Fetching all skills");
-        List<Skill> skills = portfolioService.getAllSkills();
-        log.debug("Skills retrieved: {} items", skills.size());
-        return ResponseEntity.ok(skills);
+    @GetMapping(value = "/skills", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAllSkills(WebRequest request, HttpServletResponse response) throws IOException {
+        writeStored("skills", PortfolioSection.SKILLS, portfolioService::getAllSkills, request, response);
     }
 
     /**
@@ -83,81 +202,134 @@ public class PortfolioApiController {
      * @return List of skills in the specified category
      */
     @GetMapping("/skills/category/{category}")
-    public ResponseEntity<List<Skill>> getSkillsByCategory(@PathVariable String category) {
-        log.debug("GET /api/skills/category/{} - Fetching skills by category", category);
-        List<Skill> skills = portfolioService.getSkillsByCategory(category);
-        log.debug("Skills retrieved for category '{}': {} items", category, skills.size());
+    public ResponseEntity<List<SkillView>> getSkillsByCategory(@PathVariable String category, WebRequest request) {
+        if (notModified(request, PortfolioSection.SKILLS)) {
+            return null;
+        }
+        List<SkillView> skills = portfolioService.getSkillsByCategory(category);
         return ResponseEntity.ok(skills);
     }
 
+    /**
+     * Get all skills ordered by proficiency.
+     * Writes the list of skills, highest proficiency first.
+     */
+    @GetMapping(value = "/skills/by-proficiency", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getSkillsByProficiency(WebRequest request, HttpServletResponse response) throws IOException {
+        writeStored("skills-by-proficiency", PortfolioSection.SKILLS, portfolioService::getSkillsByProficiency,
+                request, response);
+    }
+
     /**
      * Create or update a skill
      * @param skill Skill data to save
      * @return Saved skill data
      */
     @PostMapping("/skills")
-    public ResponseEntity<Skill> saveSkill(@RequestBody Skill skill) {
+    public ResponseEntity<Skill> saveSkill(@Valid @RequestBody Skill skill) {
         log.debug("POST /api/skills - Saving skill: {}", skill.getName());
         Skill savedSkill = portfolioService.saveSkill(skill);
         log.debug("Skill saved successfully with ID: {}", savedSkill.getId());
         return ResponseEntity.ok(savedSkill);
     }
 
+    /**
+     * Create or update many skills in one batch
+     * @param contentType application/json (array) or application/x-ndjson (one object per line)
+     * @param body Skills to upsert, matched on id, then on name
+     * @return Counts of inserted, updated and rejected rows with per-row errors
+     */
+    @PostMapping(value = "/skills/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResult> importSkills(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                         InputStream body) throws IOException {
+        return bulkImport(Skill.class, contentType, body, portfolioService::upsertSkills);
+    }
+
     // ===============================
     // PROJECT ENDPOINTS
     // ===============================
 
     /**
-     * Get all projects
-     * @return List of all projects ordered by creation date
+     * Get all projects.
+     * Writes the list of all projects ordered by creation date.
      */
-    @GetMapping("/projects")
-    public ResponseEntity<List<Project>> getAllProjects() {
-        log.debug("GET /api/projects - Fetching all projects");
-        List<Project> projects = portfolioService.getAllProjects();
-        log.debug("Projects retrieved: {} items", projects.size());
-        return ResponseEntity.ok(projects);
+    @GetMapping(value = "/projects", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAllProjects(WebRequest request, HttpServletResponse response) throws IOException {
+        writeStored("projects", PortfolioSection.PROJECTS, portfolioService::getAllProjects, request, response);
+    }
+
+    /**
+     * Get featured projects only.
+     * Writes the list of featured projects.
+     */
+    @GetMapping(value = "/projects/featured", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getFeaturedProjects(WebRequest request, HttpServletResponse response) throws IOException {
+        writeStored("projects-featured", PortfolioSection.PROJECTS, portfolioService::getFeaturedProjects,
+                request, response);
     }
 
     /**
-     * Get featured projects only
-     * @return List of featured projects
+     * Get projects tagged with a technology
+     * @param technology Technology slug or name (e.g., "spring-boot" or "Spring Boot")
+     * @return List of projects using the technology, newest first
      */
-    @GetMapping("/projects/featured")
-    public ResponseEntity<List<Project>> getFeaturedProjects() {
-        log.debug("GET /api/projects/featured - Fetching featured projects");
-        List<Project> projects = portfolioService.getFeaturedProjects();
-        log.debug("Featured projects retrieved: {} items", projects.size());
+    @GetMapping("/projects/tag/{technology}")
+    public ResponseEntity<List<ProjectView>> getProjectsByTechnology(@PathVariable String technology, WebRequest request) {
+        if (notModified(request, PortfolioSection.PROJECTS)) {
+            return null;
+        }
+        List<ProjectView> projects = portfolioService.getProjectsByTechnology(technology);
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Get the number of projects per technology
+     * @return Technologies with their project counts, most used first
+     */
+    @GetMapping("/projects/tags")
+    public ResponseEntity<List<TagCount>> getTechnologyCounts(WebRequest request) {
+        if (notModified(request, PortfolioSection.PROJECTS)) {
+            return null;
+        }
+        return ResponseEntity.ok(portfolioService.getTechnologyCounts());
+    }
+
     /**
      * Create or update a project
      * @param project Project data to save
      * @return Saved project data
      */
     @PostMapping("/projects")
-    public ResponseEntity<Project> saveProject(@RequestBody Project project) {
+    public ResponseEntity<Project> saveProject(@Valid @RequestBody Project project) {
         log.debug("POST /api/projects - Saving project: {}", project.getName());
         Project savedProject = portfolioService.saveProject(project);
         log.debug("Project saved successfully with ID: {}", savedProject.getId());
         return ResponseEntity.ok(savedProject);
     }
 
+    /**
+     * Create or update many projects in one batch
+     * @param contentType application/json (array) or application/x-ndjson (one object per line)
+     * @param body Projects to upsert, matched on id, then on name
+     * @return Counts of inserted, updated and rejected rows with per-row errors
+     */
+    @PostMapping(value = "/projects/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResult> importProjects(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           InputStream body) throws IOException {
+        return bulkImport(Project.class, contentType, body, portfolioService::upsertProjects);
+    }
+
     // ===============================
     // HOBBY ENDPOINTS
     // ===============================
 
     /**
-     * Get all hobbies
-     * @return List of all hobbies
+     * Get all hobbies.
+     * Writes the list of all hobbies.
      */
-    @GetMapping("/hobbies")
-    public ResponseEntity<List<Hobby>> getAllHobbies() {
-        log.debug("GET /api/hobbies - Fetching all hobbies");
-        List<Hobby> hobbies = portfolioService.getAllHobbies();
-        log.debug("Hobbies retrieved: {} items", hobbies.size());
-        return ResponseEntity.ok(hobbies);
+    @GetMapping(value = "/hobbies", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAllHobbies(WebRequest request, HttpServletResponse response) throws IOException {
+        writeStored("hobbies", PortfolioSection.HOBBIES, portfolioService::getAllHobbies, request, response);
     }
 
     /**
@@ -166,27 +338,37 @@ public class PortfolioApiController {
      * @return Saved hobby data
      */
     @PostMapping("/hobbies")
-    public ResponseEntity<Hobby> saveHobby(@RequestBody Hobby hobby) {
+    public ResponseEntity<Hobby> saveHobby(@Valid @RequestBody Hobby hobby) {
         log.debug("POST /api/hobbies - Saving hobby: {}", hobby.getName());
         Hobby savedHobby = portfolioService.saveHobby(hobby);
         log.debug("Hobby saved successfully with ID: {}", savedHobby.getId());
         return ResponseEntity.ok(savedHobby);
     }
 
+    /**
+     * Create or update many hobbies in one batch
+     * @param contentType application/json (array) or application/x-ndjson (one object per line)
+     * @param body Hobbies to upsert, matched on id, then on name
+     * @return Counts of inserted, updated and rejected rows with per-row errors
+     */
+    @PostMapping(value = "/hobbies/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResult> importHobbies(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                          InputStream body) throws IOException {
+        return bulkImport(Hobby.class, contentType, body, portfolioService::upsertHobbies);
+    }
+
     // ===============================
     // EXPERIENCE ENDPOINTS
     // ===============================
 
     /**
-     * Get all work experiences
-     * @return List of experiences ordered by start date (newest first)
+     * Get all work experiences.
+     * Writes the list of experiences ordered by start date (newest first).
      */
-    @GetMapping("/experiences")
-    public ResponseEntity<List<Experience>> getAllExperiences() {
-        log.debug("GET /api/experiences - Fetching all experiences");
-        List<Experience> experiences = portfolioService.getAllExperiences();
-        log.debug("Experiences retrieved: {} items", experiences.size());
-        return ResponseEntity.ok(experiences);
+    @GetMapping(value = "/experiences", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAllExperiences(WebRequest request, HttpServletResponse response) throws IOException {
+        writeStored("experiences", PortfolioSection.EXPERIENCES, portfolioService::getAllExperiences,
+                request, response);
     }
 
     /**
@@ -195,13 +377,25 @@ public class PortfolioApiController {
      * @return Saved experience data
      */
     @PostMapping("/experiences")
-    public ResponseEntity<Experience> saveExperience(@RequestBody Experience experience) {
+    public ResponseEntity<Experience> saveExperience(@Valid @RequestBody Experience experience) {
         log.debug("POST /api/experiences - Saving experience: {} at {}", experience.getTitle(), experience.getCompany());
         Experience savedExperience = portfolioService.saveExperience(experience);
         log.debug("Experience saved successfully with ID: {}", savedExperience.getId());
         return ResponseEntity.ok(savedExperience);
     }
 
+    /**
+     * Create or update many experiences in one batch
+     * @param contentType application/json (array) or application/x-ndjson (one object per line)
+     * @param body Experiences to upsert, matched on id, then on title and company
+     * @return Counts of inserted, updated and rejected rows with per-row errors
+     */
+    @PostMapping(value = "/experiences/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResult> importExperiences(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                              InputStream body) throws IOException {
+        return bulkImport(Experience.class, contentType, body, portfolioService::upsertExperiences);
+    }
+
     // ===============================
     // CONTACT ENDPOINTS
     // ===============================
@@ -211,27 +405,350 @@ public class PortfolioApiController {
      * @return List of all contact messages ordered by creation date
      */
     @GetMapping("/contacts")
-    public ResponseEntity<List<Contact>> getAllContacts() {
-        log.debug("GET /api/contacts - Fetching all contacts");
+    public ResponseEntity<List<Contact>> getAllContacts(WebRequest request) {
+        if (notModified(request, PortfolioSection.CONTACTS)) {
+            return null;
+        }
         List<Contact> contacts = portfolioService.getAllContacts();
-        log.debug("Contacts retrieved: {} items", contacts.size());
         return ResponseEntity.ok(contacts);
     }
 
+    /**
+     * Stream all contact messages, oldest first, for bulk export.
+     * Rows are written as they are read, so the export size is not limited by memory.
+     * @param format "ndjson" (one JSON object per line, default) or "csv"
+     * @param since Optional ISO date-time; only contacts created at or after it are exported
+     */
+    @GetMapping("/contacts/export")
+    public void exportContacts(@RequestParam(defaultValue = "ndjson") String format,
+                               @RequestParam(required = false)
+                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                               HttpServletResponse response) throws IOException {
+        ContactExportService.Format exportFormat;
+        try {
+            exportFormat = ContactExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or csv", e);
+        }
+        response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("contacts." + exportFormat.fileExtension()).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        contactExportService.export(exportFormat, since, response.getOutputStream());
+    }
+
+    /**
+     * Subscribe to newly stored contact messages as Server-Sent Events, in commit order.
+     * Each event is named "contact" and carries a contact summary as JSON; the event id is the
+     * change log id of the write that stored it. A "reset" event means events were missed.
+     * @param lastEventId Sent by EventSource on reconnect; events after it are replayed first
+     * @return Event stream, or 503 when the subscriber limit is reached
+     */
+    @GetMapping(value = "/contacts/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getContactFeed(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long after;
+        try {
+            after = lastEventId == null || lastEventId.isBlank() ? null : Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Last-Event-ID", e);
+        }
+        SseEmitter emitter = contactFeedService.subscribe(after);
+        if (emitter == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many feed subscribers");
+        }
+        return emitter;
+    }
+
+    /**
+     * Get contact feed counters
+     * @return Connected subscribers, published and delivered events, evicted slow subscribers
+     */
+    @GetMapping("/contacts/feed/stats")
+    public ResponseEntity<ContactFeedService.Stats> getContactFeedStats() {
+        return ResponseEntity.ok(contactFeedService.stats());
+    }
+
+    /**
+     * Get one page of the contacts inbox (newest first) without message bodies
+     * @param limit Page size, 1 to 100 (default 20)
+     * @param cursor Value of nextCursor from the previous page; omit for the first page
+     * @param read Optional filter on the read flag
+     * @return Page of contact summaries and the cursor of the next page
+     */
+    @GetMapping("/contacts/inbox")
+    public ResponseEntity<ContactPage> getContactInbox(@RequestParam(defaultValue = "20") int limit,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Boolean read,
+                                                       WebRequest request) {
+        if (limit < 1 || limit > MAX_INBOX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_INBOX_PAGE_SIZE);
+        }
+        ContactCursor position;
+        try {
+            position = cursor != null ? ContactCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+        if (notModified(request, PortfolioSection.CONTACTS)) {
+            return null;
+        }
+        ContactPage page = portfolioService.getContactPage(read, position, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Get a single contact message including its body
+     * @param id Contact ID
+     * @return Contact data or 404 if not found
+     */
+    @GetMapping("/contacts/{id:\\d+}")
+    public ResponseEntity<Contact> getContact(@PathVariable Long id) {
+        Contact contact = portfolioService.getContact(id);
+        return contact != null ? ResponseEntity.ok(contact) : ResponseEntity.notFound().build();
+    }
+
     /**
      * Submit a new contact message
      * @param contact Contact message data
-     * @return Saved contact data with HTTP 201 status
+     * @return Saved contact data with HTTP 201 status, or HTTP 202 with a receipt (no id yet) when
+     *         async ingestion is enabled (HTTP 429 if the ingestion queue is full or the sender is rate limited).
+     *         A repeat of a recently received message is acknowledged with HTTP 202 but not stored.
+     *         Invalid input is rejected with HTTP 400 before it is queued.
      */
     @PostMapping("/contacts")
-    public ResponseEntity<Contact> saveContact(@RequestBody Contact contact) {
+    public ResponseEntity<?> saveContact(@Valid @RequestBody Contact contact) {
         log.debug("POST /api/contacts - Saving contact from: {}", contact.getEmail());
+        ContactThrottle.Decision decision = contactThrottle.check(contact);
+        if (decision == ContactThrottle.Decision.RATE_LIMITED) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .build();
+        }
+        if (decision == ContactThrottle.Decision.DUPLICATE) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        }
         if (contact.getCreatedAt() == null) {
             contact.setCreatedAt(java.time.LocalDateTime.now());
         }
+        if (contactIngestionService.isEnabled()) {
+            // Taken before the hand-off: the writer thread owns the entity once it is queued
+            ContactReceipt receipt = ContactReceipt.of(contact);
+            if (!contactIngestionService.submit(contact)) {
+                log.debug("Contact ingestion queue full - rejecting contact from: {}", contact.getEmail());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build();
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(receipt);
+        }
         Contact savedContact = portfolioService.saveContact(contact);
+        contactThrottle.recordAccepted(savedContact);
         log.debug("Contact saved successfully with ID: {}", savedContact.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(savedContact);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get async contact ingestion counters
+     * @return Queue depth, accepted/rejected counts and flush latency
+     */
+    @GetMapping("/contacts/ingestion/stats")
+    public ResponseEntity<ContactIngestionService.Stats> getContactIngestionStats() {
+        return ResponseEntity.ok(contactIngestionService.stats());
+    }
+
+    /**
+     * Get contact rate limiting counters
+     * @return Rejections by IP and email, dropped duplicates and tracked key counts
+     */
+    @GetMapping("/contacts/throttle/stats")
+    public ResponseEntity<ContactThrottle.Stats> getContactThrottleStats() {
+        return ResponseEntity.ok(contactThrottle.stats());
+    }
+
+    // ===============================
+    // SEARCH ENDPOINTS
+    // ===============================
+
+    /**
+     * Search projects, skills and experiences
+     * @param q Search terms; every term must match a word, or the start of one
+     * @param limit Maximum number of hits, 1 to 50 (default 10)
+     * @return Hits ordered by relevance
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchHit>> search(@RequestParam String q,
+                                                  @RequestParam(defaultValue = "10") int limit,
+                                                  WebRequest request) {
+        if (q.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        if (notModified(request, "search", contentVersions.combined(SEARCH_SECTIONS))) {
+            return null;
+        }
+        return ResponseEntity.ok(searchIndex.search(q, limit));
+    }
+
+    // ===============================
+    // CACHE ENDPOINTS
+    // ===============================
+
+    /**
+     * Get read cache counters
+     * @return Hit, miss, eviction and invalidation counts plus current size
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<PortfolioReadCache.Stats> getCacheStats() {
+        return ResponseEntity.ok(portfolioService.getCacheStats());
+    }
+
+    /**
+     * Get change log poller counters for this node
+     * @return Node id, entries applied from other nodes, open gaps and replication lag
+     */
+    @GetMapping("/cache/change-log/stats")
+    public ResponseEntity<ContentChangePoller.Stats> getChangeLogStats() {
+        return ResponseEntity.ok(contentChangePoller.stats());
+    }
+
+    // ===============================
+    // BULK IMPORT HELPERS
+    // ===============================
+
+    private <T> ResponseEntity<BulkImportResult> bulkImport(Class<T> type, String contentType, InputStream body,
+                                                            Function<List<T>, PortfolioService.UpsertResult> upsert)
+            throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        try {
+            return ResponseEntity.ok(bulkImportService.importRows(type, body, ndjson, upsert));
+        } catch (BulkImportService.BodyTooLargeException e) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // ===============================
+    // CONDITIONAL REQUEST HELPERS
+    // ===============================
+
+    private boolean notModified(WebRequest request, PortfolioSection section) {
+        return notModified(request, section.name().toLowerCase(Locale.ROOT), contentVersions.current(section));
+    }
+
+    /**
+     * Check If-None-Match / If-Modified-Since against the given version.
+     * Also sets the ETag and Last-Modified response headers; when this returns
+     * true the response is already a 304 and the handler must return null.
+     */
+    private boolean notModified(WebRequest request, String resource, ContentVersions.Version version) {
+        return request.checkNotModified(contentVersions.eTag(resource, version), version.lastModified());
+    }
+
+    /**
+     * Write a stored response body, or a 304 when the client's validators match it.
+     * The validators of the current version are checked first, so a 304 neither
+     * loads nor serializes the body. The gzip copy is sent when there is one and
+     * the client accepts gzip.
+     */
+    private void writeStored(String resource, PortfolioSection section, Supplier<?> loader,
+                             WebRequest request, HttpServletResponse response) throws IOException {
+        boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (!validatorsMatch(responseStore.validators(resource, section), acceptsGzip, request, response)) {
+            writeEntry(responseStore.get(resource, section, loader), acceptsGzip, request, response);
+        }
+    }
+
+    // False when the store cannot tell the validators before building the body
+    private static boolean validatorsMatch(@Nullable ResponseStore.Validators validators, boolean acceptsGzip,
+                                           WebRequest request, HttpServletResponse response) {
+        if (validators == null) {
+            return false;
+        }
+        if (validators.gzipETag() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        String eTag = acceptsGzip && validators.gzipETag() != null ? validators.gzipETag() : validators.eTag();
+        return request.checkNotModified(eTag, validators.lastModified());
+    }
+
+    // Checks again against the built entry, which also sets the validators actually sent with it
+    private void writeEntry(ResponseStore.Entry entry, boolean acceptsGzip, WebRequest request,
+                            HttpServletResponse response) throws IOException {
+        boolean gzip = negotiateGzip(entry, acceptsGzip, response);
+        if (!storedNotModified(entry, gzip, request)) {
+            writeBody(entry, gzip, response);
+        }
+    }
+
+    /**
+     * Pick the encoding to serve. Vary is set here, before the validators are
+     * checked, so a 304 carries it as well.
+     */
+    private static boolean negotiateGzip(ResponseStore.Entry entry, boolean acceptsGzip, HttpServletResponse response) {
+        if (entry.gzip() == null) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return acceptsGzip;
+    }
+
+    // Validators are compared with the ETag of the representation being served
+    private boolean storedNotModified(ResponseStore.Entry entry, boolean gzip, WebRequest request) {
+        return request.checkNotModified(gzip ? entry.gzipETag() : entry.eTag(), entry.lastModified());
+    }
+
+    private void writeBody(ResponseStore.Entry entry, boolean gzip, HttpServletResponse response) throws IOException {
+        ByteBuffer body = entry.json();
+        if (gzip) {
+            body = entry.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.remaining());
+        DirectBufferWriter.write(response.getOutputStream(), body.duplicate());
+    }
+
+    /**
+     * Whether Accept-Encoding (RFC 9110) allows gzip: listed with a non-zero q, or
+     * not listed while "*" has a non-zero q. Only the exact coding name counts, so
+     * "x-gzip" does not.
+     */
+    private static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                gzip = quality(parts);
+            } else if (name.equals("*")) {
+                any = quality(parts);
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    // Value of the q parameter, 1 when absent and 0 when malformed
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter.substring(equals + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
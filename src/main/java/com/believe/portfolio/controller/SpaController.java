@@ -1,6 +1,5 @@
 package com.believe.portfolio.controller;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 
@@ -12,7 +11,6 @@ import org.springframework.web.bind.annotation.GetMapping;
  * frontend application.
  */
 @Controller
-@Slf4j
 public class SpaController {
 
     /**
@@ -30,7 +28,6 @@ public class SpaController {
         "/{path:[^\\.]*}"  // Match any path that doesn't contain a dot (file extension)
     })
     public String index() {
-        log.debug("SPA Controller: Forwarding request to index.html for client-side routing");
         return "forward:/index.html";
     }
 }
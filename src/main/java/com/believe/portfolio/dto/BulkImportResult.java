@@ -0,0 +1,25 @@
+package com.believe.portfolio.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import request
+ *
+ * @param received rows in the request
+ * @param inserted rows stored as new records
+ * @param updated  rows that replaced an existing record (matched on id or natural key)
+ * @param rejected rows skipped because they could not be parsed or failed validation
+ * @param errors   one entry per problem found, in row order
+ */
+public record BulkImportResult(int received, int inserted, int updated, int rejected, List<RowError> errors) {
+
+    /**
+     * A problem with one row
+     *
+     * @param row     1-based position in the array, or line number for NDJSON
+     * @param field   offending property, or null when the row could not be parsed
+     * @param message what is wrong
+     */
+    public record RowError(int row, String field, String message) {
+    }
+}
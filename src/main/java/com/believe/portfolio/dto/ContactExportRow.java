@@ -0,0 +1,16 @@
+package com.believe.portfolio.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contact message as written by GET /api/contacts/export, one per line
+ */
+public record ContactExportRow(
+        Long id,
+        String name,
+        String email,
+        String subject,
+        String message,
+        LocalDateTime createdAt,
+        Boolean read) {
+}
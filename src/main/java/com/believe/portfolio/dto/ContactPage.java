@@ -0,0 +1,12 @@
+package com.believe.portfolio.dto;
+
+import java.util.List;
+
+/**
+ * One page of the contacts inbox, newest first
+ *
+ * @param items      message summaries on this page
+ * @param nextCursor cursor for the following page, or null on the last page
+ */
+public record ContactPage(List<ContactSummary> items, String nextCursor) {
+}
@@ -0,0 +1,20 @@
+package com.believe.portfolio.dto;
+
+import com.believe.portfolio.entity.Contact;
+
+import java.time.LocalDateTime;
+
+/**
+ * Body of the 202 returned when a contact message is queued for async ingestion.
+ * Has no id: it is assigned later by the background writer.
+ */
+public record ContactReceipt(
+        String name,
+        String email,
+        String subject,
+        LocalDateTime createdAt) {
+
+    public static ContactReceipt of(Contact contact) {
+        return new ContactReceipt(contact.getName(), contact.getEmail(), contact.getSubject(), contact.getCreatedAt());
+    }
+}
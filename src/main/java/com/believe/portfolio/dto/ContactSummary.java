@@ -0,0 +1,16 @@
+package com.believe.portfolio.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox row for a contact message, without the message body.
+ * Loaded with a JPQL constructor expression so the TEXT column is never read.
+ */
+public record ContactSummary(
+        Long id,
+        String name,
+        String email,
+        String subject,
+        LocalDateTime createdAt,
+        Boolean read) {
+}
@@ -0,0 +1,18 @@
+package com.believe.portfolio.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Experience as served by the read endpoints; serializes to the same JSON as the {@code Experience} entity
+ */
+public record ExperienceView(
+        Long id,
+        String title,
+        String company,
+        String location,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean current,
+        String description,
+        String companyLogoUrl) {
+}
@@ -0,0 +1,12 @@
+package com.believe.portfolio.dto;
+
+/**
+ * Hobby as served by the read endpoints; serializes to the same JSON as the {@code Hobby} entity
+ */
+public record HobbyView(
+        Long id,
+        String name,
+        String description,
+        String imageUrl,
+        String iconUrl) {
+}
@@ -0,0 +1,15 @@
+package com.believe.portfolio.dto;
+
+import java.util.List;
+
+/**
+ * Complete public read model of the portfolio, served by GET /api/portfolio
+ * so the frontend can load every section in a single request.
+ */
+public record PortfolioView(
+        ProfileView profile,
+        List<SkillView> skills,
+        List<ProjectView> projects,
+        List<HobbyView> hobbies,
+        List<ExperienceView> experiences) {
+}
@@ -0,0 +1,18 @@
+package com.believe.portfolio.dto;
+
+/**
+ * Profile as served by the read endpoints; serializes to the same JSON as the {@code Profile} entity
+ */
+public record ProfileView(
+        Long id,
+        String fullName,
+        String title,
+        String bio,
+        String profileImageUrl,
+        String email,
+        String phone,
+        String location,
+        String linkedinUrl,
+        String githubUrl,
+        String websiteUrl) {
+}
@@ -0,0 +1,19 @@
+package com.believe.portfolio.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Project as served by the read endpoints. Same JSON as the {@code Project} entity,
+ * whose tag set is never serialized.
+ */
+public record ProjectView(
+        Long id,
+        String name,
+        String description,
+        String imageUrl,
+        String githubUrl,
+        String liveUrl,
+        String technologies,
+        LocalDate createdAt,
+        Boolean featured) {
+}
@@ -0,0 +1,13 @@
+package com.believe.portfolio.dto;
+
+/**
+ * One search result
+ *
+ * @param type    "project", "skill" or "experience"
+ * @param id      entity id
+ * @param title   project name, skill name or "title at company"
+ * @param snippet start of the description
+ * @param score   relevance, higher is better
+ */
+public record SearchHit(String type, Long id, String title, String snippet, double score) {
+}
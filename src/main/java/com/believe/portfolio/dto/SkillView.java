@@ -0,0 +1,13 @@
+package com.believe.portfolio.dto;
+
+/**
+ * Skill as served by the read endpoints; serializes to the same JSON as the {@code Skill} entity
+ */
+public record SkillView(
+        Long id,
+        String name,
+        String category,
+        String iconUrl,
+        Integer proficiency,
+        String description) {
+}
@@ -0,0 +1,11 @@
+package com.believe.portfolio.dto;
+
+/**
+ * Number of projects using a technology
+ *
+ * @param name     display name, e.g. "Spring Boot"
+ * @param slug     lookup key for /api/projects/tag/{slug}
+ * @param projects number of projects tagged with it
+ */
+public record TagCount(String name, String slug, Long projects) {
+}
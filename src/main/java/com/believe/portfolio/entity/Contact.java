@@ -1,6 +1,8 @@
 package com.believe.portfolio.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,24 +10,35 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contact")
+@Table(name = "contact", indexes = {
+        @Index(name = "idx_contact_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_contact_read_created_at_id", columnList = "read, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Contact {
+    // Sequence ids (pre-allocated in blocks) let Hibernate batch inserts; IDENTITY forces one round-trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_seq")
+    @SequenceGenerator(name = "contact_seq", sequenceName = "contact_seq", allocationSize = 50)
     private Long id;
     
+    @NotBlank
+    @Size(max = 100)
     @Column(nullable = false, length = 100)
     private String name;
     
+    @NotBlank
+    @Size(max = 200)
     @Column(nullable = false, length = 200)
     private String email;
     
+    @Size(max = 500)
     @Column(length = 500)
     private String subject;
     
+    @NotBlank
     @Column(nullable = false, columnDefinition = "TEXT")
     private String message;
     
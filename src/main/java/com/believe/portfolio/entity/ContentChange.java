@@ -0,0 +1,40 @@
+package com.believe.portfolio.entity;
+
+import com.believe.portfolio.service.PortfolioSection;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed write to a portfolio section, appended in the writing transaction.
+ * {@code entityIds} lists the ids written (comma-separated), or is null when the
+ * whole section should be treated as changed.
+ */
+@Entity
+@Table(name = "content_change", indexes = {
+        @Index(name = "idx_content_change_changed_at", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PortfolioSection section;
+
+    @Column(name = "entity_ids", length = 4000)
+    private String entityIds;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -1,6 +1,8 @@
 package com.believe.portfolio.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,21 +10,29 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "experience")
+@Table(name = "experience", indexes = {
+        @Index(name = "idx_experience_start_date", columnList = "start_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Experience {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experience_seq")
+    @SequenceGenerator(name = "experience_seq", sequenceName = "experience_seq", allocationSize = 50)
     private Long id;
     
+    @NotBlank
+    @Size(max = 200)
     @Column(nullable = false, length = 200)
     private String title;
     
+    @NotBlank
+    @Size(max = 200)
     @Column(nullable = false, length = 200)
     private String company;
     
+    @Size(max = 100)
     @Column(length = 100)
     private String location;
     
@@ -38,6 +48,7 @@ public class Experience {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    @Size(max = 500)
     @Column(length = 500)
     private String companyLogoUrl;
 }
@@ -1,6 +1,8 @@
 package com.believe.portfolio.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,18 +14,23 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Hobby {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hobby_seq")
+    @SequenceGenerator(name = "hobby_seq", sequenceName = "hobby_seq", allocationSize = 50)
     private Long id;
     
+    @NotBlank
+    @Size(max = 100)
     @Column(nullable = false, length = 100)
     private String name;
     
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    @Size(max = 500)
     @Column(length = 500)
     private String imageUrl;
     
+    @Size(max = 200)
     @Column(length = 200)
     private String iconUrl;
 }
@@ -1,11 +1,18 @@
 package com.believe.portfolio.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "project")
@@ -14,30 +21,48 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
     
+    @NotBlank
+    @Size(max = 200)
     @Column(nullable = false, length = 200)
     private String name;
     
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    @Size(max = 500)
     @Column(length = 500)
     private String imageUrl;
     
+    @Size(max = 500)
     @Column(length = 500)
     private String githubUrl;
     
+    @Size(max = 500)
     @Column(length = 500)
     private String liveUrl;
     
+    @Size(max = 500)
     @Column(length = 500)
-    private String technologies; // Comma-separated or JSON
+    private String technologies; // Comma-separated or JSON; parsed into technologyTags on save
     
     @Column(name = "created_at")
     private LocalDate createdAt;
     
     @Column(name = "featured")
     private Boolean featured = false;
+
+    // Normalized form of technologies, kept in sync by PortfolioService.saveProject
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "project_technology",
+            joinColumns = @JoinColumn(name = "project_id"),
+            inverseJoinColumns = @JoinColumn(name = "technology_id"),
+            indexes = @Index(name = "idx_project_technology_technology_id", columnList = "technology_id, project_id"))
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Technology> technologyTags = new HashSet<>();
 }
\ No newline at end of file
@@ -1,29 +1,44 @@
 package com.believe.portfolio.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "skill")
+@Table(name = "skill", indexes = {
+        @Index(name = "idx_skill_category", columnList = "category, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Skill {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_seq")
+    @SequenceGenerator(name = "skill_seq", sequenceName = "skill_seq", allocationSize = 50)
     private Long id;
     
+    @NotBlank
+    @Size(max = 100)
     @Column(nullable = false, length = 100)
     private String name;
     
+    @Size(max = 50)
     @Column(length = 50)
     private String category; // e.g., "Frontend", "Backend", "Database", "Tools"
     
+    @Size(max = 200)
     @Column(length = 200)
     private String iconUrl;
     
+    @NotNull
+    @Min(1)
+    @Max(100)
     @Column(nullable = false)
     private Integer proficiency; // 1-100
     
@@ -0,0 +1,38 @@
+package com.believe.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Technology tag shared by projects. {@code slug} is the lookup key used in URLs
+ * ("Spring Boot" becomes "spring-boot", "CI/CD" becomes "ci-cd").
+ */
+@Entity
+@Table(name = "technology", indexes = {
+        @Index(name = "uk_technology_slug", columnList = "slug", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Technology {
+    // Pooled sequence ids so new tags are batch inserted with their projects
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "technology_seq")
+    @SequenceGenerator(name = "technology_seq", sequenceName = "technology_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String slug;
+
+    public static String slugOf(String name) {
+        String slug = name.trim().toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}+#.]+", "-");
+        return slug.replaceAll("^-+|-+$", "");
+    }
+}
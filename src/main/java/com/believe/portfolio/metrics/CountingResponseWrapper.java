@@ -0,0 +1,86 @@
+package com.believe.portfolio.metrics;
+
+import com.believe.portfolio.web.DirectBufferWriter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Counts the body bytes written through the response output stream without
+ * buffering them. Message converters and static resources all write through
+ * the output stream; writer-based output (container error pages) is not counted.
+ * ByteBuffer writes are passed through to the container uncopied.
+ */
+final class CountingResponseWrapper extends HttpServletResponseWrapper {
+
+    private CountingOutputStream outputStream;
+
+    CountingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    long bytesWritten() {
+        return outputStream != null ? outputStream.count : 0;
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream implements DirectBufferWriter.Sink {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer) throws IOException {
+            int length = buffer.remaining();
+            DirectBufferWriter.write(delegate, buffer);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
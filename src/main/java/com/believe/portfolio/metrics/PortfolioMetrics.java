@@ -0,0 +1,99 @@
+package com.believe.portfolio.metrics;
+
+import com.believe.portfolio.ratelimit.ContactThrottle;
+import com.believe.portfolio.service.ContactFeedService;
+import com.believe.portfolio.service.ContactIngestionService;
+import com.believe.portfolio.service.ContentChangePoller;
+import com.believe.portfolio.service.PortfolioReadCache;
+import com.believe.portfolio.service.ResponseStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the read cache, response store, change log, contact ingestion, contact throttle and contact feed counters as meters, so they
+ * are available from /actuator/metrics next to the request metrics.
+ */
+@Component
+public class PortfolioMetrics implements MeterBinder {
+
+    private final PortfolioReadCache readCache;
+    private final ContactIngestionService contactIngestionService;
+    private final ContactThrottle contactThrottle;
+    private final ContactFeedService contactFeedService;
+    private final ContentChangePoller contentChangePoller;
+    private final ResponseStore responseStore;
+
+    public PortfolioMetrics(PortfolioReadCache readCache,
+                            ContactIngestionService contactIngestionService,
+                            ContactThrottle contactThrottle,
+                            ContactFeedService contactFeedService,
+                            ContentChangePoller contentChangePoller,
+                            ResponseStore responseStore) {
+        this.readCache = readCache;
+        this.contactIngestionService = contactIngestionService;
+        this.contactThrottle = contactThrottle;
+        this.contactFeedService = contactFeedService;
+        this.contentChangePoller = contentChangePoller;
+        this.responseStore = responseStore;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("portfolio.cache.requests", readCache, cache -> cache.stats().hits())
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("portfolio.cache.requests", readCache, cache -> cache.stats().misses())
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("portfolio.cache.evictions", readCache, cache -> cache.stats().evictions())
+                .register(registry);
+        Gauge.builder("portfolio.cache.size", readCache, cache -> cache.stats().size())
+                .register(registry);
+        FunctionCounter.builder("portfolio.cache.coalesced", readCache, cache -> cache.stats().coalesced())
+                .register(registry);
+        FunctionCounter.builder("portfolio.cache.coalesce.timeouts", readCache, cache -> cache.stats().loadTimeouts())
+                .register(registry);
+
+        Gauge.builder("portfolio.response.store.memory", responseStore, store -> store.stats().directBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("portfolio.response.store.rebuilds", responseStore, store -> store.stats().rebuilds())
+                .register(registry);
+
+        FunctionCounter.builder("portfolio.changelog.applied", contentChangePoller, poller -> poller.stats().applied())
+                .register(registry);
+        Gauge.builder("portfolio.changelog.lag", contentChangePoller, poller -> poller.stats().lastLagMillis())
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("portfolio.changelog.gaps", contentChangePoller, poller -> poller.stats().openGaps())
+                .register(registry);
+
+        Gauge.builder("portfolio.contacts.ingestion.queue.depth", contactIngestionService,
+                        service -> service.stats().queueDepth())
+                .register(registry);
+        FunctionCounter.builder("portfolio.contacts.ingestion.rejected", contactIngestionService,
+                        service -> service.stats().rejected())
+                .register(registry);
+        FunctionCounter.builder("portfolio.contacts.ingestion.flushed", contactIngestionService,
+                        service -> service.stats().flushedRows())
+                .register(registry);
+        Gauge.builder("portfolio.contacts.ingestion.flush.max", contactIngestionService,
+                        service -> service.stats().maxFlushMillis())
+                .baseUnit("milliseconds")
+                .register(registry);
+
+        FunctionCounter.builder("portfolio.contacts.throttled", contactThrottle, throttle -> throttle.stats().ipRejections())
+                .tag("reason", "ip").register(registry);
+        FunctionCounter.builder("portfolio.contacts.throttled", contactThrottle, throttle -> throttle.stats().emailRejections())
+                .tag("reason", "email").register(registry);
+        FunctionCounter.builder("portfolio.contacts.throttled", contactThrottle, throttle -> throttle.stats().duplicates())
+                .tag("reason", "duplicate").register(registry);
+
+        Gauge.builder("portfolio.contacts.feed.subscribers", contactFeedService, feed -> feed.stats().subscribers())
+                .register(registry);
+        FunctionCounter.builder("portfolio.contacts.feed.evicted", contactFeedService, feed -> feed.stats().evicted())
+                .register(registry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.believe.portfolio.metrics;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the duration of every repository call to the current request's {@link RequestDbTime}
+ */
+public class RepositoryTimingListener implements RepositoryMethodInvocationListener {
+
+    @Override
+    public void afterInvocation(@NonNull RepositoryMethodInvocation invocation) {
+        RequestDbTime.record(invocation.getDuration(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,43 @@
+package com.believe.portfolio.metrics;
+
+/**
+ * Database time spent by the current request, accumulated from repository
+ * invocations on the request thread. Calls made outside a tracked request
+ * (background writers, startup) are ignored.
+ */
+final class RequestDbTime {
+
+    private static final ThreadLocal<RequestDbTime> CURRENT = new ThreadLocal<>();
+
+    private long nanos;
+    private int calls;
+
+    private RequestDbTime() {
+    }
+
+    static RequestDbTime begin() {
+        RequestDbTime dbTime = new RequestDbTime();
+        CURRENT.set(dbTime);
+        return dbTime;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        RequestDbTime dbTime = CURRENT.get();
+        if (dbTime != null) {
+            dbTime.nanos += elapsedNanos;
+            dbTime.calls++;
+        }
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    int calls() {
+        return calls;
+    }
+}
@@ -0,0 +1,104 @@
+package com.believe.portfolio.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per-request database time and response size, and writes a sampled
+ * access log line.
+ *
+ * Latency and throughput per endpoint come from Spring's own
+ * http.server.requests timer; this filter adds the two numbers it cannot see:
+ * <ul>
+ *   <li>portfolio.request.db.time - repository time spent by the request</li>
+ *   <li>portfolio.response.size - response body bytes</li>
+ * </ul>
+ * Both are tagged with the HTTP method and the matched URI pattern. Only a
+ * fraction of requests (portfolio.metrics.request-log-sample-rate) are logged,
+ * to the com.believe.portfolio.api logger.
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger apiLog = LoggerFactory.getLogger("com.believe.portfolio.api");
+
+    private final MeterRegistry registry;
+    private final double logSampleRate;
+    private final Map<String, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry registry,
+                                @Value("${portfolio.metrics.request-log-sample-rate:0.01}") double logSampleRate) {
+        this.registry = registry;
+        this.logSampleRate = logSampleRate;
+    }
+
+    private record RequestMeters(Timer dbTime, DistributionSummary responseSize) {
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        RequestDbTime dbTime = RequestDbTime.begin();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, countingResponse);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestDbTime.end();
+            String uri = uriPattern(request);
+            RequestMeters requestMeters = meters.computeIfAbsent(request.getMethod() + " " + uri,
+                    key -> register(request.getMethod(), uri));
+            requestMeters.dbTime().record(dbTime.nanos(), TimeUnit.NANOSECONDS);
+            requestMeters.responseSize().record(countingResponse.bytesWritten());
+            if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate && apiLog.isInfoEnabled()) {
+                apiLog.info("{} {} status={} timeMs={} dbMs={} dbCalls={} bytes={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        elapsed / 1_000_000, dbTime.nanos() / 1_000_000, dbTime.calls(),
+                        countingResponse.bytesWritten());
+            }
+        }
+    }
+
+    private RequestMeters register(String method, String uri) {
+        return new RequestMeters(
+                Timer.builder("portfolio.request.db.time")
+                        .description("Repository time spent per request")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(registry),
+                DistributionSummary.builder("portfolio.response.size")
+                        .description("Response body size per request")
+                        .baseUnit("bytes")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(registry));
+    }
+
+    /**
+     * Matched handler pattern (e.g. /api/skills/category/{category}) so tags stay low-cardinality
+     */
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,66 @@
+package com.believe.portfolio.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-IP rate limit for POST /api/contacts, applied before the body is read or
+ * parsed. A rejected request gets 429 with Retry-After and an empty body.
+ *
+ * The client address is the servlet remote address; when running behind a
+ * proxy, enable server.forward-headers-strategy so it reflects X-Forwarded-For.
+ */
+@Component
+public class ContactRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String CONTACTS_PATH = "/api/contacts";
+    private static final int MAX_CACHED_RETRY_SECONDS = 120;
+    private static final String[] RETRY_AFTER_VALUES = new String[MAX_CACHED_RETRY_SECONDS + 1];
+
+    static {
+        for (int i = 0; i <= MAX_CACHED_RETRY_SECONDS; i++) {
+            RETRY_AFTER_VALUES[i] = Integer.toString(i);
+        }
+    }
+
+    private final ContactThrottle contactThrottle;
+
+    public ContactRateLimitFilter(ContactThrottle contactThrottle) {
+        this.contactThrottle = contactThrottle;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !contactThrottle.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !CONTACTS_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        long wait = contactThrottle.acquireForAddress(request.getRemoteAddr());
+        if (wait > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter(wait));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    static String retryAfter(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return seconds <= MAX_CACHED_RETRY_SECONDS ? RETRY_AFTER_VALUES[(int) seconds] : Long.toString(seconds);
+    }
+}
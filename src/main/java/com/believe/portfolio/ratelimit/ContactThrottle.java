@@ -0,0 +1,130 @@
+package com.believe.portfolio.ratelimit;
+
+import com.believe.portfolio.entity.Contact;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Abuse protection for POST /api/contacts: token buckets per client IP and
+ * per sender email, and suppression of a sender repeating the same message.
+ *
+ * The IP check runs in {@link ContactRateLimitFilter} before the request body
+ * is read; the email and duplicate checks run in the controller once the
+ * contact has been parsed, before it reaches the service layer.
+ */
+@Component
+@Slf4j
+public class ContactThrottle {
+
+    public enum Decision {
+        ACCEPT,
+        RATE_LIMITED,
+        DUPLICATE
+    }
+
+    private final boolean enabled;
+    private final KeyedRateLimiter ipLimiter;
+    private final KeyedRateLimiter emailLimiter;
+    private final RecentContentSet recentMessages;
+
+    private final LongAdder ipRejections = new LongAdder();
+    private final LongAdder emailRejections = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    public ContactThrottle(@Value("${portfolio.contacts.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${portfolio.contacts.rate-limit.ip.burst:5}") int ipBurst,
+                           @Value("${portfolio.contacts.rate-limit.ip.refill-interval:PT12S}") Duration ipRefill,
+                           @Value("${portfolio.contacts.rate-limit.email.burst:3}") int emailBurst,
+                           @Value("${portfolio.contacts.rate-limit.email.refill-interval:PT1M}") Duration emailRefill,
+                           @Value("${portfolio.contacts.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${portfolio.contacts.duplicate.window:PT10M}") Duration duplicateWindow,
+                           @Value("${portfolio.contacts.duplicate.slots:65536}") int duplicateSlots) {
+        this.enabled = enabled;
+        this.ipLimiter = new KeyedRateLimiter(ipBurst, ipRefill, maxKeys);
+        this.emailLimiter = new KeyedRateLimiter(emailBurst, emailRefill, maxKeys);
+        this.recentMessages = new RecentContentSet(duplicateSlots, duplicateWindow);
+    }
+
+    /**
+     * Throttle counters
+     */
+    public record Stats(long ipRejections, long emailRejections, long duplicates, int trackedIps, int trackedEmails) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Take a permit for the client address
+     * @return 0 if allowed, otherwise nanoseconds until the client may retry
+     */
+    public long acquireForAddress(String address) {
+        if (!enabled) {
+            return 0;
+        }
+        long wait = ipLimiter.tryAcquire(address);
+        if (wait > 0) {
+            ipRejections.increment();
+        }
+        return wait;
+    }
+
+    /**
+     * Check the sender's email rate and whether the sender sent the same message recently.
+     * A message only counts as seen once it is passed to {@link #recordAccepted(Contact)},
+     * so a retry after a 429 or a failed store is not mistaken for a duplicate.
+     */
+    public Decision check(Contact contact) {
+        if (!enabled) {
+            return Decision.ACCEPT;
+        }
+        String email = normalizeEmail(contact.getEmail());
+        if (email != null && emailLimiter.tryAcquire(email) > 0) {
+            emailRejections.increment();
+            return Decision.RATE_LIMITED;
+        }
+        if (recentMessages.contains(contentHash(email, contact))) {
+            duplicates.increment();
+            log.debug("ContactThrottle: Dropping duplicate message from {}", email);
+            return Decision.DUPLICATE;
+        }
+        return Decision.ACCEPT;
+    }
+
+    /**
+     * Remember a message that was stored or queued, so a repeat within the window is dropped
+     */
+    public void recordAccepted(Contact contact) {
+        if (enabled) {
+            recentMessages.add(contentHash(normalizeEmail(contact.getEmail()), contact));
+        }
+    }
+
+    /**
+     * Forget an accepted message that could not be stored, so the sender can send it again
+     */
+    public void forget(Contact contact) {
+        if (enabled) {
+            recentMessages.remove(contentHash(normalizeEmail(contact.getEmail()), contact));
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(ipRejections.sum(), emailRejections.sum(), duplicates.sum(),
+                ipLimiter.size(), emailLimiter.size());
+    }
+
+    private static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static long contentHash(String email, Contact contact) {
+        return RecentContentSet.normalizedHash(email, contact.getSubject(), contact.getMessage());
+    }
+}
@@ -0,0 +1,96 @@
+package com.believe.portfolio.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by client (IP address, email, ...).
+ *
+ * Each bucket is a single {@link AtomicLong} holding its "theoretical arrival
+ * time" (GCRA): a permit is granted if that time is no more than the burst
+ * tolerance ahead of now, and granting it advances the time by one refill
+ * interval with a CAS. Rejections never write, so a flooding client only
+ * costs a map lookup and a clock read.
+ *
+ * Memory is bounded: a bucket whose arrival time has passed is full again and
+ * carries no state, so such idle keys are swept periodically and whenever the
+ * key limit is reached. If the limit is still exceeded after a sweep, new keys
+ * are rejected until old ones go idle.
+ */
+public class KeyedRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    /**
+     * @param burst          permits available to an idle key at once
+     * @param refillInterval time for one permit to be refilled
+     * @param maxKeys        maximum number of tracked keys
+     */
+    public KeyedRateLimiter(int burst, Duration refillInterval, int maxKeys) {
+        this.intervalNanos = refillInterval.toNanos();
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Try to take a permit for the key
+     * @return 0 if granted, otherwise nanoseconds until the next permit
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key, now);
+            if (bucket == null) {
+                return intervalNanos;
+            }
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long base = arrival - now > 0 ? arrival : now;
+            long wait = base - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong newBucket(String key, long now) {
+        if (buckets.size() >= maxKeys || now - lastSweep.get() > SWEEP_INTERVAL_NANOS) {
+            sweepIdle(now);
+            if (buckets.size() >= maxKeys) {
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void sweepIdle(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            lastSweep.set(now);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.believe.portfolio.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lossy set of recently seen content hashes with a time-to-live.
+ *
+ * Hashes are stored in a direct-mapped table of two parallel long arrays, so
+ * lookups and inserts never allocate and memory never grows. A colliding
+ * insert simply overwrites the older entry, which can only let a duplicate
+ * through, never reject a new message.
+ */
+public class RecentContentSet {
+
+    private final AtomicLongArray hashes;
+    private final AtomicLongArray expiries;
+    private final int mask;
+    private final long ttlNanos;
+
+    /**
+     * @param slots table size, rounded up to a power of two
+     * @param ttl   how long a hash is remembered
+     */
+    public RecentContentSet(int slots, Duration ttl) {
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.hashes = new AtomicLongArray(size);
+        this.expiries = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Report whether the hash is present and unexpired, without recording it
+     */
+    public boolean contains(long hash) {
+        long key = key(hash);
+        int slot = slot(key);
+        return hashes.get(slot) == key && expiries.get(slot) - System.nanoTime() > 0;
+    }
+
+    /**
+     * Record the hash for the time-to-live, replacing whatever shared its slot
+     */
+    public void add(long hash) {
+        long key = key(hash);
+        int slot = slot(key);
+        hashes.set(slot, key);
+        expiries.set(slot, System.nanoTime() + ttlNanos);
+    }
+
+    /**
+     * Forget the hash if it is still in its slot
+     */
+    public void remove(long hash) {
+        long key = key(hash);
+        hashes.compareAndSet(slot(key), key, 0);
+    }
+
+    // 0 marks an empty slot
+    private static long key(long hash) {
+        return hash == 0 ? 1 : hash;
+    }
+
+    private int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the sender and of the letters and digits of subject and
+     * message, case-folded, so messages from one sender that differ only in whitespace,
+     * punctuation or case hash the same
+     * @param sender normalized sender key (e.g. the trimmed, lower-cased email); hashed as is
+     */
+    public static long normalizedHash(String sender, String subject, String message) {
+        long hash = 0xcbf29ce484222325L;
+        if (sender != null) {
+            for (int i = 0; i < sender.length(); i++) {
+                hash ^= sender.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+        hash ^= 0x1f;
+        hash *= 0x100000001b3L;
+        return mix(mix(hash, subject), message);
+    }
+
+    private static long mix(long hash, String text) {
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    hash ^= Character.toLowerCase(c);
+                    hash *= 0x100000001b3L;
+                }
+            }
+        }
+        // Field separator, so text moving between subject and message changes the hash
+        hash ^= 0x1f;
+        return hash * 0x100000001b3L;
+    }
+}
@@ -1,11 +1,20 @@
 package com.believe.portfolio.repository;
 
+import com.believe.portfolio.dto.ContactExportRow;
+import com.believe.portfolio.dto.ContactSummary;
 import com.believe.portfolio.entity.Contact;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, Long> {
@@ -13,5 +22,47 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     List<Contact> findAllOrderByCreatedAtDesc();
     
     List<Contact> findByReadFalse();
-}
 
+    // Inbox pages: newest first on (createdAt, id), body excluded. The read-filtered and
+    // unfiltered pages are separate queries so each gets its own plan and index
+    // (idx_contact_read_created_at_id / idx_contact_created_at_id) instead of one
+    // generic plan for an optional parameter.
+    @Query("SELECT new com.believe.portfolio.dto.ContactSummary(c.id, c.name, c.email, c.subject, c.createdAt, c.read) " +
+           "FROM Contact c WHERE c.createdAt IS NOT NULL " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummary> findSummaries(Limit limit);
+
+    @Query("SELECT new com.believe.portfolio.dto.ContactSummary(c.id, c.name, c.email, c.subject, c.createdAt, c.read) " +
+           "FROM Contact c WHERE c.read = :read AND c.createdAt IS NOT NULL " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummary> findSummariesByRead(boolean read, Limit limit);
+
+    @Query("SELECT new com.believe.portfolio.dto.ContactSummary(c.id, c.name, c.email, c.subject, c.createdAt, c.read) " +
+           "FROM Contact c WHERE c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummary> findSummariesBefore(LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("SELECT new com.believe.portfolio.dto.ContactSummary(c.id, c.name, c.email, c.subject, c.createdAt, c.read) " +
+           "FROM Contact c WHERE c.read = :read " +
+           "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummary> findSummariesByReadBefore(boolean read, LocalDateTime createdAt, Long id, Limit limit);
+
+    // Contacts of change log entries, for the feed
+    @Query("SELECT new com.believe.portfolio.dto.ContactSummary(c.id, c.name, c.email, c.subject, c.createdAt, c.read) " +
+           "FROM Contact c WHERE c.id IN :ids ORDER BY c.id")
+    List<ContactSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    // Export: oldest first, read through a forward-only cursor in fetch-size chunks.
+    // Must be consumed inside a transaction and closed; rows are records, so the
+    // persistence context does not grow with the export.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.believe.portfolio.dto.ContactExportRow(c.id, c.name, c.email, c.subject, c.message, c.createdAt, c.read) " +
+           "FROM Contact c ORDER BY c.createdAt, c.id")
+    Stream<ContactExportRow> streamForExport();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.believe.portfolio.dto.ContactExportRow(c.id, c.name, c.email, c.subject, c.message, c.createdAt, c.read) " +
+           "FROM Contact c WHERE c.createdAt >= :since ORDER BY c.createdAt, c.id")
+    Stream<ContactExportRow> streamForExportSince(LocalDateTime since);
+}
@@ -0,0 +1,39 @@
+package com.believe.portfolio.repository;
+
+import com.believe.portfolio.entity.ContentChange;
+import com.believe.portfolio.service.PortfolioSection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ContentChangeRepository extends JpaRepository<ContentChange, Long> {
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM ContentChange c WHERE c.id > :id ORDER BY c.id")
+    List<ContentChange> findAfter(long id, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ContentChange c")
+    long findLatestId();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT MIN(c.id) FROM ContentChange c")
+    Long findOldestId();
+
+    // Feed replay: one section's entries in (after, upTo], in id order
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM ContentChange c WHERE c.section = :section AND c.id > :after AND c.id <= :upTo ORDER BY c.id")
+    List<ContentChange> findSectionBetween(PortfolioSection section, long after, long upTo, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ContentChange c WHERE c.changedAt < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
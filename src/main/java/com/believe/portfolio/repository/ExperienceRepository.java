@@ -1,15 +1,24 @@
 package com.believe.portfolio.repository;
 
+import com.believe.portfolio.dto.ExperienceView;
 import com.believe.portfolio.entity.Experience;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     @Query("SELECT e FROM Experience e ORDER BY e.startDate DESC")
     List<Experience> findAllOrderByStartDateDesc();
-}
 
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.ExperienceView(e.id, e.title, e.company, e.location, e.startDate, " +
+           "e.endDate, e.current, e.description, e.companyLogoUrl) FROM Experience e ORDER BY e.startDate DESC")
+    List<ExperienceView> findAllViewsOrderByStartDateDesc();
+
+    List<Experience> findByCompanyIn(Collection<String> companies);
+}
@@ -1,10 +1,21 @@
 package com.believe.portfolio.repository;
 
+import com.believe.portfolio.dto.HobbyView;
 import com.believe.portfolio.entity.Hobby;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface HobbyRepository extends JpaRepository<Hobby, Long> {
-}
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.HobbyView(h.id, h.name, h.description, h.imageUrl, h.iconUrl) " +
+           "FROM Hobby h ORDER BY h.id")
+    List<HobbyView> findAllViews();
 
+    List<Hobby> findByNameIn(Collection<String> names);
+}
@@ -1,10 +1,18 @@
 package com.believe.portfolio.repository;
 
+import com.believe.portfolio.dto.ProfileView;
 import com.believe.portfolio.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.ProfileView(p.id, p.fullName, p.title, p.bio, p.profileImageUrl, " +
+           "p.email, p.phone, p.location, p.linkedinUrl, p.githubUrl, p.websiteUrl) FROM Profile p WHERE p.id = :id")
+    Optional<ProfileView> findViewById(Long id);
 }
-
@@ -1,14 +1,50 @@
 package com.believe.portfolio.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.believe.portfolio.dto.ProjectView;
+import com.believe.portfolio.dto.TagCount;
 import com.believe.portfolio.entity.Project;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByFeaturedTrue();
     List<Project> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    // Read model: constructor expressions never create managed entities
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.ProjectView(p.id, p.name, p.description, p.imageUrl, p.githubUrl, " +
+           "p.liveUrl, p.technologies, p.createdAt, p.featured) FROM Project p ORDER BY p.id")
+    List<ProjectView> findAllViews();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.ProjectView(p.id, p.name, p.description, p.imageUrl, p.githubUrl, " +
+           "p.liveUrl, p.technologies, p.createdAt, p.featured) FROM Project p WHERE p.featured = true ORDER BY p.id")
+    List<ProjectView> findFeaturedViews();
+
+    // Unique slug index -> (technology_id, project_id) index -> project primary key
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.ProjectView(p.id, p.name, p.description, p.imageUrl, p.githubUrl, " +
+           "p.liveUrl, p.technologies, p.createdAt, p.featured) " +
+           "FROM Project p JOIN p.technologyTags t WHERE t.slug = :slug ORDER BY p.createdAt DESC")
+    List<ProjectView> findViewsByTechnologySlug(String slug);
+
+    // Grouped over the join table; one row per technology
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.TagCount(t.name, t.slug, COUNT(p.id)) " +
+           "FROM Project p JOIN p.technologyTags t GROUP BY t.id, t.name, t.slug " +
+           "ORDER BY COUNT(p.id) DESC, t.name")
+    List<TagCount> countProjectsByTechnology();
+
+    // Rows written before technologies were normalized
+    @Query("SELECT p FROM Project p WHERE p.technologies IS NOT NULL AND p.technologyTags IS EMPTY")
+    List<Project> findUntagged();
+
+    List<Project> findByNameIn(Collection<String> names);
+}
@@ -1,14 +1,30 @@
 package com.believe.portfolio.repository;
 
+import com.believe.portfolio.dto.SkillView;
 import com.believe.portfolio.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findByCategory(String category);
     List<Skill> findAllByOrderByProficiencyDesc();
-}
 
+    // Read model: constructor expressions never create managed entities
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.SkillView(s.id, s.name, s.category, s.iconUrl, s.proficiency, s.description) " +
+           "FROM Skill s ORDER BY s.id")
+    List<SkillView> findAllViews();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.believe.portfolio.dto.SkillView(s.id, s.name, s.category, s.iconUrl, s.proficiency, s.description) " +
+           "FROM Skill s WHERE s.category = :category ORDER BY s.id")
+    List<SkillView> findViewsByCategory(String category);
+
+    List<Skill> findByNameIn(Collection<String> names);
+}
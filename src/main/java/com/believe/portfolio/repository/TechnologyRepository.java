@@ -0,0 +1,13 @@
+package com.believe.portfolio.repository;
+
+import com.believe.portfolio.entity.Technology;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TechnologyRepository extends JpaRepository<Technology, Long> {
+    List<Technology> findBySlugIn(Collection<String> slugs);
+}
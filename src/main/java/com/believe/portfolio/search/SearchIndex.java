@@ -0,0 +1,227 @@
+package com.believe.portfolio.search;
+
+import com.believe.portfolio.dto.ExperienceView;
+import com.believe.portfolio.dto.ProjectView;
+import com.believe.portfolio.dto.SearchHit;
+import com.believe.portfolio.dto.SkillView;
+import com.believe.portfolio.entity.Experience;
+import com.believe.portfolio.entity.Project;
+import com.believe.portfolio.entity.Skill;
+import com.believe.portfolio.service.PortfolioContentChangedEvent;
+import com.believe.portfolio.service.PortfolioService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory inverted index over projects, skills and experiences.
+ *
+ * Terms are kept in a sorted map so a query token matches every term it is a
+ * prefix of; exact matches score higher than prefix matches. A document must
+ * match every query token. Scores add up per token: field weight (name/title
+ * over technologies/company over description) times term frequency, scaled by
+ * inverse document frequency.
+ *
+ * The index is built once at startup and then updated one document at a time
+ * from {@link PortfolioContentChangedEvent}s. Writers are serialized; readers
+ * never lock.
+ */
+@Component
+@Slf4j
+public class SearchIndex {
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double KEYWORD_WEIGHT = 2.0;
+    private static final double TEXT_WEIGHT = 1.0;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final int SNIPPET_LENGTH = 160;
+
+    private record DocKey(String type, Long id) {
+    }
+
+    private record Document(DocKey key, String title, String snippet, Map<String, Double> termWeights) {
+    }
+
+    private final PortfolioService portfolioService;
+    private final Map<DocKey, Document> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Map<DocKey, Double>> postings = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public SearchIndex(PortfolioService portfolioService) {
+        this.portfolioService = portfolioService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        portfolioService.getAllProjects().forEach(this::index);
+        portfolioService.getAllSkills().forEach(this::index);
+        portfolioService.getAllExperiences().forEach(this::index);
+        log.info("SearchIndex: Indexed {} documents, {} terms", documents.size(), postings.size());
+    }
+
+    @EventListener
+    public void onContentChanged(PortfolioContentChangedEvent event) {
+        event.saved().forEach(this::index);
+    }
+
+    /**
+     * Add or replace the document for an entity or read-model view; other types are ignored
+     */
+    public void index(Object item) {
+        if (item instanceof Project project) {
+            indexProject(project.getId(), project.getName(), project.getTechnologies(), project.getDescription());
+        } else if (item instanceof ProjectView project) {
+            indexProject(project.id(), project.name(), project.technologies(), project.description());
+        } else if (item instanceof Skill skill) {
+            indexSkill(skill.getId(), skill.getName(), skill.getDescription());
+        } else if (item instanceof SkillView skill) {
+            indexSkill(skill.id(), skill.name(), skill.description());
+        } else if (item instanceof Experience experience) {
+            indexExperience(experience.getId(), experience.getTitle(), experience.getCompany(), experience.getDescription());
+        } else if (item instanceof ExperienceView experience) {
+            indexExperience(experience.id(), experience.title(), experience.company(), experience.description());
+        }
+    }
+
+    private void indexProject(Long id, String name, String technologies, String description) {
+        Map<String, Double> terms = new HashMap<>();
+        addField(terms, name, TITLE_WEIGHT);
+        addField(terms, technologies, KEYWORD_WEIGHT);
+        addField(terms, description, TEXT_WEIGHT);
+        put(new Document(new DocKey("project", id), name, snippet(description), terms));
+    }
+
+    private void indexSkill(Long id, String name, String description) {
+        Map<String, Double> terms = new HashMap<>();
+        addField(terms, name, TITLE_WEIGHT);
+        addField(terms, description, TEXT_WEIGHT);
+        put(new Document(new DocKey("skill", id), name, snippet(description), terms));
+    }
+
+    private void indexExperience(Long id, String title, String company, String description) {
+        Map<String, Double> terms = new HashMap<>();
+        addField(terms, title, TITLE_WEIGHT);
+        addField(terms, company, KEYWORD_WEIGHT);
+        addField(terms, description, TEXT_WEIGHT);
+        put(new Document(new DocKey("experience", id), title + " at " + company, snippet(description), terms));
+    }
+
+    /**
+     * Search the index
+     * @param query free text; every token must match a term exactly or as a prefix
+     * @param limit maximum number of hits
+     * @return Hits ordered by descending score
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        int documentCount = Math.max(1, documents.size());
+        Map<DocKey, Double> scores = null;
+        for (String token : tokens) {
+            Map<DocKey, Double> tokenScores = new HashMap<>();
+            for (Map.Entry<String, Map<DocKey, Double>> term
+                    : postings.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+                double idf = Math.log(1.0 + (double) documentCount / term.getValue().size());
+                double factor = term.getKey().length() == token.length() ? 1.0 : PREFIX_MATCH_FACTOR;
+                term.getValue().forEach((key, weight) -> tokenScores.merge(key, weight * idf * factor, Math::max));
+            }
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((key, score) -> score + tokenScores.get(key));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(scores.size());
+        scores.forEach((key, score) -> {
+            Document document = documents.get(key);
+            if (document != null) {
+                hits.add(new SearchHit(key.type(), key.id(), document.title(), document.snippet(), score));
+            }
+        });
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private void put(Document document) {
+        if (document.key().id() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Document previous = documents.put(document.key(), document);
+            if (previous != null) {
+                for (String term : previous.termWeights().keySet()) {
+                    postings.computeIfPresent(term, (t, docs) -> {
+                        docs.remove(document.key());
+                        return docs.isEmpty() ? null : docs;
+                    });
+                }
+            }
+            document.termWeights().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(document.key(), weight));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void addField(Map<String, Double> terms, String text, double fieldWeight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, frequency) ->
+                terms.merge(term, fieldWeight * (1.0 + Math.log(frequency)), Double::sum));
+    }
+
+    /**
+     * Lower-case runs of letters and digits ("Spring/JPA" becomes "spring", "jpa")
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String snippet(String text) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+        return text.substring(0, SNIPPET_LENGTH) + "...";
+    }
+}
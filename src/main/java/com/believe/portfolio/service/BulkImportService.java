@@ -0,0 +1,214 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.BulkImportResult;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Parses and validates bulk import payloads before handing the valid rows to
+ * one of the {@code PortfolioService.upsert*} methods.
+ *
+ * Accepts a JSON array or NDJSON (one object per line). Each row is parsed and
+ * validated on its own, so one bad row is reported with its position instead
+ * of failing the whole request; the remaining rows are still imported.
+ *
+ * Both formats are read incrementally: only the current row is parsed into
+ * memory, the row limit is checked as each row arrives, and the body is cut off
+ * once it exceeds the configured size.
+ */
+@Service
+@Slf4j
+public class BulkImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxRows;
+    private final long maxBodySize;
+
+    @Autowired
+    public BulkImportService(ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${portfolio.bulk.max-rows:10000}") int maxRows,
+                             @Value("${portfolio.bulk.max-body-size:16MB}") DataSize maxBodySize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxRows = maxRows;
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    /**
+     * Thrown while reading a body longer than the configured limit
+     */
+    public static class BodyTooLargeException extends IOException {
+        public BodyTooLargeException(long limit) {
+            super("Body exceeds " + limit + " bytes");
+        }
+    }
+
+    /**
+     * Parse, validate and upsert rows
+     * @param type   entity class each row is read as
+     * @param body   request body
+     * @param ndjson true for one JSON object per line, false for a JSON array
+     * @param upsert stores the valid rows in one batch
+     * @return Counts and per-row errors
+     * @throws IllegalArgumentException if the body is not an array / NDJSON or has too many rows
+     * @throws BodyTooLargeException    if the body is longer than portfolio.bulk.max-body-size
+     */
+    public <T> BulkImportResult importRows(Class<T> type, InputStream body, boolean ndjson,
+                                           Function<List<T>, PortfolioService.UpsertResult> upsert) throws IOException {
+        List<BulkImportResult.RowError> errors = new ArrayList<>();
+        List<T> valid = new ArrayList<>();
+        InputStream limited = new LimitedInputStream(body, maxBodySize);
+        int received = ndjson
+                ? readNdjson(type, limited, valid, errors)
+                : readArray(type, limited, valid, errors);
+
+        PortfolioService.UpsertResult result = valid.isEmpty()
+                ? new PortfolioService.UpsertResult(0, 0)
+                : upsert.apply(valid);
+        int rejected = received - valid.size();
+        log.info("BulkImportService: Imported {} {} rows ({} inserted, {} updated, {} rejected)",
+                received, type.getSimpleName(), result.inserted(), result.updated(), rejected);
+        return new BulkImportResult(received, result.inserted(), result.updated(), rejected, errors);
+    }
+
+    // Elements are read one at a time, so only the current row is held as a tree
+    private <T> int readArray(Class<T> type, InputStream body, List<T> valid,
+                              List<BulkImportResult.RowError> errors) throws IOException {
+        int row = 0;
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Body must be a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Body is not valid JSON: unterminated array");
+                }
+                checkSize(++row);
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    accept(objectMapper.treeToValue(node, type), row, valid, errors);
+                } catch (JsonProcessingException e) {
+                    errors.add(new BulkImportResult.RowError(row, null, e.getOriginalMessage()));
+                }
+            }
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Body is not valid JSON: " + e.getOriginalMessage(), e);
+        }
+        return row;
+    }
+
+    private <T> int readNdjson(Class<T> type, InputStream body, List<T> valid,
+                               List<BulkImportResult.RowError> errors) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        int rows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            checkSize(++rows);
+            try {
+                accept(objectMapper.readValue(line, type), lineNumber, valid, errors);
+            } catch (JsonProcessingException e) {
+                errors.add(new BulkImportResult.RowError(lineNumber, null, e.getOriginalMessage()));
+            }
+        }
+        return rows;
+    }
+
+    private <T> void accept(T value, int row, List<T> valid, List<BulkImportResult.RowError> errors) {
+        if (value == null) {
+            errors.add(new BulkImportResult.RowError(row, null, "Row is null"));
+            return;
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (violations.isEmpty()) {
+            valid.add(value);
+            return;
+        }
+        violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .forEach(violation -> errors.add(new BulkImportResult.RowError(
+                        row, violation.getPropertyPath().toString(), violation.getMessage())));
+    }
+
+    private void checkSize(int rows) {
+        if (rows > maxRows) {
+            throw new IllegalArgumentException("At most " + maxRows + " rows per request");
+        }
+    }
+
+    /**
+     * Fails the read once more than limit bytes have come through, whatever Content-Length said
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new BodyTooLargeException(limit);
+            }
+        }
+    }
+}
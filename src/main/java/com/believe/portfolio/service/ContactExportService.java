@@ -0,0 +1,168 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.ContactExportRow;
+import com.believe.portfolio.repository.ContactRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams contact messages to an output stream for bulk export.
+ *
+ * Rows come from a forward-only database cursor and go through a fixed-size
+ * write buffer straight to the caller's stream, so memory use does not depend
+ * on the number of rows. The read-only transaction (and its connection) is held
+ * until the last row has been written.
+ */
+@Service
+@Slf4j
+public class ContactExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,name,email,subject,message,createdAt,read\r\n";
+
+    private final ContactRepository contactRepository;
+    private final ObjectWriter rowWriter;
+
+    /**
+     * Export formats and their content types
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String fileExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Autowired
+    public ContactExportService(ContactRepository contactRepository, ObjectMapper objectMapper) {
+        this.contactRepository = contactRepository;
+        // Flushing after every row would turn each row into its own network write
+        this.rowWriter = objectMapper.writerFor(ContactExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write contacts, oldest first, to the output stream
+     * @param format output format
+     * @param since  only contacts created at or after this time; null for all
+     * @param out    destination; flushed but not closed
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, @Nullable LocalDateTime since, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = 0;
+        try (Stream<ContactExportRow> rows = since == null
+                ? contactRepository.streamForExport()
+                : contactRepository.streamForExportSince(since)) {
+            RowSink sink = format == Format.CSV ? csvSink(writer) : ndjsonSink(writer);
+            for (ContactExportRow row : (Iterable<ContactExportRow>) rows::iterator) {
+                sink.write(row);
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("ContactExportService: Exported {} contacts as {} (since={})", count, format, since);
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface RowSink {
+        void write(ContactExportRow row) throws IOException;
+    }
+
+    private RowSink ndjsonSink(Writer writer) throws IOException {
+        // Flushing the generator only moves its buffer into the writer, never to the network
+        JsonGenerator generator = rowWriter.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        // Each row ends with its own newline instead of the default space between root values
+        generator.setRootValueSeparator(null);
+        return row -> {
+            rowWriter.writeValue(generator, row);
+            generator.flush();
+            writer.write('\n');
+        };
+    }
+
+    private static RowSink csvSink(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        return row -> {
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writeCsvField(writer, row.name());
+            writer.write(',');
+            writeCsvField(writer, row.email());
+            writer.write(',');
+            writeCsvField(writer, row.subject());
+            writer.write(',');
+            writeCsvField(writer, row.message());
+            writer.write(',');
+            writer.write(row.createdAt() != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(row.createdAt()) : "");
+            writer.write(',');
+            writer.write(String.valueOf(Boolean.TRUE.equals(row.read())));
+            writer.write("\r\n");
+        };
+    }
+
+    /**
+     * RFC 4180: quote fields containing a separator, quote or line break; double embedded quotes.
+     * Fields come from the public contact form, so one that a spreadsheet would run as a
+     * formula (starting with =, +, -, @, tab or CR) is prefixed with ' and quoted.
+     */
+    private static void writeCsvField(Writer writer, @Nullable String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean formula = !value.isEmpty() && isFormulaStart(value.charAt(0));
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
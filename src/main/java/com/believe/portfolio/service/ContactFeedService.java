@@ -0,0 +1,517 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.ContactSummary;
+import com.believe.portfolio.entity.Contact;
+import com.believe.portfolio.entity.ContentChange;
+import com.believe.portfolio.repository.ContactRepository;
+import com.believe.portfolio.repository.ContentChangeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Server-Sent Events feed of newly stored contact messages.
+ *
+ * Events are released in change log order. With the change log enabled, every
+ * contact write appends a CONTACTS entry to content_change in its transaction,
+ * and {@link ContentChangePoller} hands those entries (from this node and the
+ * others) to {@link #release} once every lower id has shown up or has been
+ * missing for portfolio.contacts.feed.gap-timeout. A new contact therefore
+ * reaches subscribers within one poll interval of its commit, plus at most that
+ * timeout while a lower id is still uncommitted (a rolled-back write leaves a
+ * permanent gap). The entry id is the event id, so a client that reconnects
+ * with Last-Event-ID is owed the entries above it. An entry committed after
+ * the feed moved past its id goes to {@link #releaseLate}: it is pushed live
+ * without an SSE id and is not replayed. Its sender thread replays them page by
+ * page, from the in-memory buffer or the database, before any live event. When
+ * the entries are no longer in the change log (older than its retention) or
+ * there are more than max-replay of them, the client gets a "reset" event
+ * instead and should reload its inbox.
+ *
+ * When contact writes are not logged (change log or portfolio.change-log.contacts
+ * off), events are numbered as this node publishes them and a reconnect can only
+ * be replayed from the in-memory buffer.
+ *
+ * Releasing only appends to the buffer and offers events to each subscriber's
+ * bounded queue, so neither a save nor the poller waits for a client. Each
+ * subscriber's queue is drained by its own virtual thread; a subscriber whose
+ * queue overflows is too slow and is disconnected (its EventSource reconnects
+ * and resumes with Last-Event-ID).
+ */
+@Service
+@Slf4j
+public class ContactFeedService {
+
+    private static final String EVENT_NAME = "contact";
+    private static final String RESET_EVENT_NAME = "reset";
+    private static final int REPLAY_PAGE_SIZE = 100;
+
+    private final ContactRepository contactRepository;
+    private final ContentChangeRepository contentChangeRepository;
+    private final boolean commitOrdered;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int replaySize;
+    private final int maxReplay;
+    private final int maxSubscribers;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Guards recent, position, bufferFloor and registration so a subscriber sees every event exactly once
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Deque<FeedEvent> recent = new ArrayDeque<>();
+    // Highest event id released; every event up to it is in recent or, below bufferFloor, only in the database
+    private long position;
+    private long bufferFloor;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Feed counters
+     */
+    public record Stats(int subscribers, int maxSubscribers, long position, long published, long delivered,
+                        long replayed, long resets, long evicted, long rejected) {
+    }
+
+    /**
+     * One contact sent to subscribers, or a reset when contact is null. Events of one
+     * change log entry share its id; only the last one carries the SSE id, so a client
+     * cut off inside an entry resumes before it and receives the whole entry again.
+     */
+    private record FeedEvent(long id, @Nullable ContactSummary contact, boolean lastOfEntry) {
+    }
+
+    private record ReplayPage(List<FeedEvent> events, long through) {
+    }
+
+    @Autowired
+    public ContactFeedService(ContactRepository contactRepository,
+                              ContentChangeRepository contentChangeRepository,
+                              ContentChangeLog changeLog,
+                              @Value("${portfolio.contacts.feed.timeout:PT30M}") Duration timeout,
+                              @Value("${portfolio.contacts.feed.heartbeat:PT15S}") Duration heartbeat,
+                              @Value("${portfolio.contacts.feed.queue-capacity:256}") int queueCapacity,
+                              @Value("${portfolio.contacts.feed.replay-size:1000}") int replaySize,
+                              @Value("${portfolio.contacts.feed.max-replay:10000}") int maxReplay,
+                              @Value("${portfolio.contacts.feed.max-subscribers:1000}") int maxSubscribers) {
+        this.contactRepository = contactRepository;
+        this.contentChangeRepository = contentChangeRepository;
+        this.commitOrdered = changeLog.isLogged(PortfolioSection.CONTACTS);
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.replaySize = replaySize;
+        this.maxReplay = maxReplay;
+        this.maxSubscribers = maxSubscribers;
+        if (!commitOrdered) {
+            // Local numbering starts from the clock, so an id from before a restart is never mistaken for a new one
+            position = System.currentTimeMillis() * 1000;
+            bufferFloor = position;
+        }
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "contact-feed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a feed connection
+     * @param lastEventId id of the last event the client received, or null for live events only
+     * @return Emitter for the response, or null when the subscriber limit is reached
+     */
+    @Nullable
+    public SseEmitter subscribe(@Nullable Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejected.increment();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        publishLock.lock();
+        try {
+            // Everything above the current position arrives live; the sender replays the rest first
+            if (lastEventId != null && lastEventId != position) {
+                subscriber.replayFrom = lastEventId;
+                subscriber.replayTo = position;
+            }
+            subscribers.add(subscriber);
+        } finally {
+            publishLock.unlock();
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Release contact entries of the change log, in id order. Called by the
+     * poller once every id up to {@code upTo} has settled.
+     */
+    public void release(List<ContentChange> entries, long upTo) {
+        if (!commitOrdered) {
+            return;
+        }
+        List<FeedEvent> events = toEvents(entries);
+        publishLock.lock();
+        try {
+            publish(events);
+            position = Math.max(position, upTo);
+            if (recent.isEmpty()) {
+                bufferFloor = position;
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        scheduleAll();
+    }
+
+    /**
+     * Push contact entries that committed after the feed moved past their ids.
+     * They carry no SSE id, so the clients' Last-Event-ID does not move back,
+     * and they are not buffered for replay.
+     */
+    public void releaseLate(List<ContentChange> entries) {
+        if (!commitOrdered) {
+            return;
+        }
+        List<FeedEvent> events = toEvents(entries);
+        publishLock.lock();
+        try {
+            for (FeedEvent event : events) {
+                // A reset moves the client to the current position, which it has either received or will receive
+                FeedEvent late = event.contact() == null
+                        ? new FeedEvent(position, null, true)
+                        : new FeedEvent(event.id(), event.contact(), false);
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(late);
+                }
+                if (late.contact() != null) {
+                    published.increment();
+                }
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        scheduleAll();
+    }
+
+    @EventListener
+    public void onContentChanged(PortfolioContentChangedEvent event) {
+        if (commitOrdered || event.section() != PortfolioSection.CONTACTS) {
+            return;
+        }
+        List<ContactSummary> contacts = new ArrayList<>(event.saved().size());
+        for (Object saved : event.saved()) {
+            if (saved instanceof Contact contact) {
+                contacts.add(new ContactSummary(contact.getId(), contact.getName(), contact.getEmail(),
+                        contact.getSubject(), contact.getCreatedAt(), contact.getRead()));
+            }
+        }
+        if (contacts.isEmpty()) {
+            return;
+        }
+        publishLock.lock();
+        try {
+            long id = ++position;
+            List<FeedEvent> events = new ArrayList<>(contacts.size());
+            for (int i = 0; i < contacts.size(); i++) {
+                events.add(new FeedEvent(id, contacts.get(i), i == contacts.size() - 1));
+            }
+            publish(events);
+        } finally {
+            publishLock.unlock();
+        }
+        scheduleAll();
+    }
+
+    public Stats stats() {
+        return new Stats(subscribers.size(), maxSubscribers, position, published.sum(), delivered.sum(),
+                replayed.sum(), resets.sum(), evicted.sum(), rejected.sum());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdownNow();
+    }
+
+    // Caller holds publishLock
+    private void publish(List<FeedEvent> events) {
+        for (FeedEvent event : events) {
+            recent.addLast(event);
+            if (recent.size() > replaySize) {
+                bufferFloor = Math.max(bufferFloor, recent.removeFirst().id());
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+            if (event.contact() != null) {
+                published.increment();
+            }
+        }
+    }
+
+    private void scheduleAll() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+    /**
+     * Events above {@code after}, up to {@code upTo}, ending on an entry boundary
+     * @return the page, or null when they can no longer be replayed
+     */
+    @Nullable
+    private ReplayPage replayPage(long after, long upTo) {
+        publishLock.lock();
+        try {
+            if (after >= bufferFloor) {
+                List<FeedEvent> events = new ArrayList<>();
+                for (FeedEvent event : recent) {
+                    if (event.id() <= after || event.id() > upTo) {
+                        continue;
+                    }
+                    events.add(event);
+                    if (events.size() >= REPLAY_PAGE_SIZE && event.lastOfEntry()) {
+                        return new ReplayPage(events, event.id());
+                    }
+                }
+                return new ReplayPage(events, upTo);
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        if (!commitOrdered) {
+            return null;
+        }
+        // Ids below the oldest retained entry may have been pruned: the gap cannot be proven complete
+        Long oldest = contentChangeRepository.findOldestId();
+        if (oldest == null || oldest > after + 1) {
+            return null;
+        }
+        List<ContentChange> entries = contentChangeRepository.findSectionBetween(
+                PortfolioSection.CONTACTS, after, upTo, Limit.of(REPLAY_PAGE_SIZE));
+        if (entries.isEmpty()) {
+            return new ReplayPage(List.of(), upTo);
+        }
+        Set<Long> ids = new HashSet<>();
+        for (ContentChange entry : entries) {
+            Set<Long> entryIds = ContentChangeLog.parseIds(entry.getEntityIds());
+            if (entryIds == null) {
+                return null;
+            }
+            ids.addAll(entryIds);
+        }
+        Map<Long, ContactSummary> contacts = loadSummaries(ids);
+        List<FeedEvent> events = new ArrayList<>();
+        for (ContentChange entry : entries) {
+            toEvents(entry, contacts, events);
+        }
+        long through = entries.size() < REPLAY_PAGE_SIZE ? upTo : entries.get(entries.size() - 1).getId();
+        return new ReplayPage(events, through);
+    }
+
+    // Events of released entries, loading their contacts in one query
+    private List<FeedEvent> toEvents(List<ContentChange> entries) {
+        Set<Long> ids = new HashSet<>();
+        for (ContentChange entry : entries) {
+            Set<Long> entryIds = ContentChangeLog.parseIds(entry.getEntityIds());
+            if (entryIds != null) {
+                ids.addAll(entryIds);
+            }
+        }
+        Map<Long, ContactSummary> contacts = ids.isEmpty() ? Map.of() : loadSummaries(ids);
+        List<FeedEvent> events = new ArrayList<>();
+        for (ContentChange entry : entries) {
+            toEvents(entry, contacts, events);
+        }
+        return events;
+    }
+
+    private Map<Long, ContactSummary> loadSummaries(Set<Long> ids) {
+        return contactRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ContactSummary::id, Function.identity()));
+    }
+
+    // An entry without ids (too many to log) cannot be expanded, so it becomes a reset
+    private static void toEvents(ContentChange entry, Map<Long, ContactSummary> contacts, List<FeedEvent> events) {
+        Set<Long> ids = ContentChangeLog.parseIds(entry.getEntityIds());
+        if (ids == null) {
+            events.add(new FeedEvent(entry.getId(), null, true));
+            return;
+        }
+        List<ContactSummary> found = ids.stream().sorted().map(contacts::get).filter(contact -> contact != null).toList();
+        for (int i = 0; i < found.size(); i++) {
+            events.add(new FeedEvent(entry.getId(), found.get(i), i == found.size() - 1));
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(Subscriber.HEARTBEAT);
+            subscriber.schedule();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * One connected client: a bounded queue, a flag telling whether a sender is
+     * draining it, and the range still to replay before the queued live events
+     */
+    private final class Subscriber {
+
+        static final FeedEvent HEARTBEAT = new FeedEvent(-1, null, false);
+
+        final SseEmitter emitter;
+        final BlockingQueue<FeedEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+        // Set before the subscriber is registered; read and cleared by the sender
+        volatile Long replayFrom;
+        volatile long replayTo;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(FeedEvent event) {
+            if (closed || queue.offer(event)) {
+                return;
+            }
+            // Queue full: the client is not keeping up
+            if (event != HEARTBEAT) {
+                closed = true;
+                evicted.increment();
+                remove(this);
+                log.info("ContactFeedService: Disconnecting slow subscriber ({} events queued)", queue.size());
+                emitter.complete();
+            }
+        }
+
+        void schedule() {
+            if (!closed && (replayFrom != null || !queue.isEmpty()) && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (replayFrom != null) {
+                    replay(replayFrom, replayTo);
+                    replayFrom = null;
+                }
+                FeedEvent next;
+                while (!closed && (next = queue.poll()) != null) {
+                    if (next == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        send(next);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter's completion callback removes the subscriber
+                closed = true;
+                remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the loop ended but before the flag was cleared
+            schedule();
+        }
+
+        /**
+         * Send the events in (from, to] page by page, or a reset when they cannot all be sent
+         */
+        private void replay(long from, long to) throws IOException {
+            if (from > to) {
+                sendReset(to, "unknown-event-id");
+                return;
+            }
+            long after = from;
+            int sent = 0;
+            while (!closed && after < to) {
+                ReplayPage page = replayPage(after, to);
+                if (page == null || sent + page.events().size() > maxReplay) {
+                    sendReset(to, page == null ? "expired" : "too-many-events");
+                    return;
+                }
+                for (FeedEvent event : page.events()) {
+                    send(event);
+                    replayed.increment();
+                }
+                sent += page.events().size();
+                after = page.through();
+            }
+        }
+
+        private void send(FeedEvent event) throws IOException {
+            if (event.contact() == null) {
+                sendReset(event.id(), "untracked-write");
+                return;
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(event.contact(), MediaType.APPLICATION_JSON);
+            if (event.lastOfEntry()) {
+                builder.id(String.valueOf(event.id()));
+            }
+            emitter.send(builder);
+            delivered.increment();
+        }
+
+        // Moves the client's Last-Event-ID forward; it should reload the inbox to fill the gap
+        private void sendReset(long id, String reason) throws IOException {
+            resets.increment();
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(RESET_EVENT_NAME)
+                    .data(Map.of("reason", reason), MediaType.APPLICATION_JSON));
+        }
+    }
+}
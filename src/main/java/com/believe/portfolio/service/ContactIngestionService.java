@@ -0,0 +1,218 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.entity.Contact;
+import com.believe.portfolio.ratelimit.ContactThrottle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous ingestion of contact messages.
+ *
+ * When enabled, POST /api/contacts only puts the message on a bounded queue
+ * and returns. A single background writer takes messages off the queue and
+ * stores them through {@link PortfolioService#saveContacts(List)} in batches,
+ * flushing once a batch is full or the flush interval has passed since its
+ * first message. A full queue rejects new messages instead of blocking the
+ * request thread. On shutdown the queue is drained before the context closes;
+ * contacts still queued when the drain timeout expires are logged as lost.
+ */
+@Service
+@Slf4j
+public class ContactIngestionService {
+
+    private final PortfolioService portfolioService;
+    private final ContactThrottle contactThrottle;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration drainTimeout;
+    private final BlockingQueue<Contact> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    @Autowired
+    public ContactIngestionService(PortfolioService portfolioService,
+                                   ContactThrottle contactThrottle,
+                                   @Value("${portfolio.contacts.ingestion.async:false}") boolean enabled,
+                                   @Value("${portfolio.contacts.ingestion.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${portfolio.contacts.ingestion.batch-size:50}") int batchSize,
+                                   @Value("${portfolio.contacts.ingestion.flush-interval:200ms}") Duration flushInterval,
+                                   @Value("${portfolio.contacts.ingestion.drain-timeout:10s}") Duration drainTimeout) {
+        this.portfolioService = portfolioService;
+        this.contactThrottle = contactThrottle;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.drainTimeout = drainTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Ingestion counters and queue state
+     */
+    public record Stats(boolean enabled, int queueDepth, int queueCapacity,
+                        long accepted, long rejected, long flushes, long flushedRows, long failedRows,
+                        double avgFlushMillis, double maxFlushMillis) {
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "contact-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("ContactIngestionService: Async ingestion started (capacity={}, batchSize={})",
+                queue.remainingCapacity(), batchSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        log.info("ContactIngestionService: Draining {} queued contacts", queue.size());
+        try {
+            writer.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            // Flushing here as well would race the writer over the same rows
+            log.warn("ContactIngestionService: Writer still busy after {}; {} queued contacts are not stored",
+                    drainTimeout, queue.size());
+            return;
+        }
+        // Anything offered while the writer was exiting is flushed here
+        List<Contact> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a contact for the background writer
+     * @param contact Contact message to store
+     * @return false if ingestion is stopping or the queue is full
+     */
+    public boolean submit(Contact contact) {
+        // Recorded before the offer: once queued, the writer may drop the row and forget it at any time
+        contactThrottle.recordAccepted(contact);
+        if (running && queue.offer(contact)) {
+            accepted.increment();
+            return true;
+        }
+        contactThrottle.forget(contact);
+        rejected.increment();
+        return false;
+    }
+
+    public Stats stats() {
+        long flushCount = flushes.sum();
+        return new Stats(enabled, queue.size(), queue.size() + queue.remainingCapacity(),
+                accepted.sum(), rejected.sum(), flushCount, flushedRows.sum(), failedRows.sum(),
+                flushCount == 0 ? 0 : flushNanos.sum() / 1_000_000.0 / flushCount,
+                maxFlushNanos.get() / 1_000_000.0);
+    }
+
+    private void runWriter() {
+        List<Contact> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Contact first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, System.nanoTime() + flushIntervalNanos);
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flush(batch);
+        }
+        log.info("ContactIngestionService: Writer stopped");
+    }
+
+    /**
+     * Keep adding queued contacts until the batch is full or the deadline passes
+     */
+    private void fillBatch(List<Contact> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            Contact next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Contact> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            portfolioService.saveContacts(batch);
+            flushedRows.add(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("ContactIngestionService: Batch of {} failed, retrying row by row", batch.size(), e);
+            saveIndividually(batch);
+        }
+        long elapsed = System.nanoTime() - start;
+        flushes.increment();
+        flushNanos.add(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        log.debug("ContactIngestionService: Flushed {} contacts in {} ms", batch.size(), elapsed / 1_000_000);
+    }
+
+    private void saveIndividually(List<Contact> batch) {
+        for (Contact contact : batch) {
+            try {
+                contact.setId(null);
+                portfolioService.saveContact(contact);
+                flushedRows.increment();
+            } catch (RuntimeException e) {
+                failedRows.increment();
+                contactThrottle.forget(contact);
+                log.error("ContactIngestionService: Dropping contact from {}", contact.getEmail(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.entity.ContentChange;
+import com.believe.portfolio.repository.ContentChangeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Writer side of the content change log: every {@link PortfolioService} write
+ * appends one row naming the section and ids it touched, in the same
+ * transaction as the write, so the entry exists exactly when the data does.
+ * {@link ContentChangePoller} on every node reads the rows written by the
+ * others and drops the affected caches.
+ */
+@Component
+@Slf4j
+public class ContentChangeLog {
+
+    private static final int MAX_IDS_LENGTH = 4000;
+
+    private final ContentChangeRepository repository;
+    private final PersistenceUnitUtil persistenceUnitUtil;
+    private final boolean enabled;
+    private final boolean logContacts;
+    private final String nodeId;
+
+    public ContentChangeLog(ContentChangeRepository repository,
+                            EntityManagerFactory entityManagerFactory,
+                            @Value("${portfolio.change-log.enabled:true}") boolean enabled,
+                            @Value("${portfolio.change-log.contacts:true}") boolean logContacts,
+                            @Value("${portfolio.change-log.node-id:}") String nodeId) {
+        this.repository = repository;
+        this.persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+        this.enabled = enabled;
+        this.logContacts = logContacts;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        log.info("ContentChangeLog: enabled={}, contacts={}, nodeId={}", enabled, logContacts, this.nodeId);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether writes to the section get an entry. Contact writes can be left out
+     * on a single node, saving one insert per contact batch; other nodes then do
+     * not see new contacts and the contact feed numbers its events locally.
+     */
+    public boolean isLogged(PortfolioSection section) {
+        return enabled && (logContacts || section != PortfolioSection.CONTACTS);
+    }
+
+    /**
+     * Identifies this process in the origin column, so its poller can skip its own writes
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Append an entry for saved entities. Must run inside the writing transaction.
+     */
+    public void record(PortfolioSection section, List<?> saved) {
+        if (!isLogged(section) || saved.isEmpty()) {
+            return;
+        }
+        repository.save(new ContentChange(null, section, joinIds(saved), nodeId, LocalDateTime.now()));
+    }
+
+    /**
+     * Ids of an entry, or null when the entry stands for the whole section
+     */
+    @Nullable
+    public static Set<Long> parseIds(@Nullable String entityIds) {
+        if (entityIds == null) {
+            return null;
+        }
+        Set<Long> ids = new HashSet<>();
+        for (String id : entityIds.split(",")) {
+            ids.add(Long.parseLong(id));
+        }
+        return ids;
+    }
+
+    // Large batches (bulk imports) are logged without ids and treated as a change to the whole section
+    @Nullable
+    private String joinIds(List<?> saved) {
+        StringJoiner ids = new StringJoiner(",");
+        for (Object entity : saved) {
+            Object id = persistenceUnitUtil.getIdentifier(entity);
+            if (id == null || ids.length() + id.toString().length() + 1 > MAX_IDS_LENGTH) {
+                return null;
+            }
+            ids.add(id.toString());
+        }
+        return ids.toString();
+    }
+}
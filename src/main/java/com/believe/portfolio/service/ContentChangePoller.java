@@ -0,0 +1,391 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.entity.ContentChange;
+import com.believe.portfolio.repository.ContentChangeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reader side of the content change log: keeps this node's caches, versions
+ * and derived read models coherent with writes made by other nodes sharing
+ * the database.
+ *
+ * A single daemon thread reads entries with ids above the highest one seen,
+ * skips its own node's entries (already applied when they were written) and
+ * hands the others, merged per section, to
+ * {@link PortfolioService#applyRemoteChange}. A remote write therefore shows up
+ * here at most one poll interval after it commits.
+ *
+ * Identity values are assigned at insert but become visible at commit, so a
+ * lower id can appear after a higher one. Missing ids below the highest seen
+ * are kept as gaps and looked up again on every poll until they show up or the
+ * gap timeout passes. A gap is usually a rolled-back transaction, but it may
+ * also be a write slower than the timeout. So a gap that times out is looked up
+ * once more, and if it is still missing, every section is refreshed from the
+ * database. Skipped ids are then still looked up on each poll until the
+ * retention passes, and an entry that shows up late is applied like any other.
+ * A late write therefore reaches every node, at worst one poll after its commit.
+ *
+ * Contact entries, this node's included, are passed to {@link ContactFeedService}
+ * in id order once every lower id has shown up or has been missing for the
+ * feed's own, much shorter gap timeout. IDENTITY gaps are routine: every rolled-back
+ * write leaves one. So a new contact reaches subscribers within a poll interval
+ * of its commit, plus at most the feed gap timeout when a lower id is still
+ * missing. A contact entry that commits after the feed has moved past its id is
+ * pushed live but cannot be resumed with Last-Event-ID.
+ */
+@Component
+@Lazy(false)
+@Slf4j
+public class ContentChangePoller {
+
+    // Bound on the skipped ids still looked up; rolled-back writes leave gaps that never fill
+    private static final int MAX_SKIPPED = 1000;
+
+    private final ContentChangeRepository repository;
+    private final ContentChangeLog changeLog;
+    private final PortfolioService portfolioService;
+    private final ContactFeedService contactFeed;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final long feedGapTimeoutNanos;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final ScheduledExecutorService scheduler;
+
+    // Poller thread only: every id <= cursor is applied or given up on,
+    // seen holds applied ids above it, gaps the missing ones (first noticed, nanoTime)
+    private long cursor;
+    private final TreeSet<Long> seen = new TreeSet<>();
+    private final Map<Long, Long> gaps = new HashMap<>();
+    // Gaps given up on (skipped, nanoTime), oldest first, still looked up in case their transaction commits late
+    private final LinkedHashMap<Long, Long> skipped = new LinkedHashMap<>();
+    // Every id <= feedCursor has been seen or missing for longer than the feed gap timeout
+    private long feedCursor;
+    // Contact entries (any node) held until the feed cursor passes them, then released to the feed in id order
+    private final TreeMap<Long, ContentChange> pendingContacts = new TreeMap<>();
+
+    private final AtomicLong highestSeen = new AtomicLong();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder skippedGaps = new LongAdder();
+    private final LongAdder lateCommits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    private volatile int openGaps;
+
+    /**
+     * Poller counters. Lag is the time from a remote write to this node applying it,
+     * measured against the writer's clock. lateCommits counts skipped gaps that
+     * showed up afterwards; refreshes counts full reloads after a skipped gap.
+     */
+    public record Stats(String nodeId, long highestSeen, long polls, long applied, long skippedGaps,
+                        long lateCommits, long refreshes, int openGaps, long failures, long lastLagMillis,
+                        long maxLagMillis) {
+    }
+
+    @Autowired
+    public ContentChangePoller(ContentChangeRepository repository,
+                               ContentChangeLog changeLog,
+                               PortfolioService portfolioService,
+                               ContactFeedService contactFeed,
+                               @Value("${portfolio.change-log.poll-interval:500ms}") Duration pollInterval,
+                               @Value("${portfolio.change-log.batch-size:500}") int batchSize,
+                               @Value("${portfolio.change-log.gap-timeout:PT30S}") Duration gapTimeout,
+                               @Value("${portfolio.contacts.feed.gap-timeout:PT1S}") Duration feedGapTimeout,
+                               @Value("${portfolio.change-log.retention:PT1H}") Duration retention) {
+        this.repository = repository;
+        this.changeLog = changeLog;
+        this.portfolioService = portfolioService;
+        this.contactFeed = contactFeed;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.feedGapTimeoutNanos = feedGapTimeout.toNanos();
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "content-change-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start following the change log once the application is ready, so no
+     * query runs while the context is still being built. Runs before the other
+     * ready listeners: the cursor is read before they load anything, so an entry
+     * committed meanwhile is applied to what they loaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        if (!changeLog.isEnabled()) {
+            return;
+        }
+        // Nothing has been loaded yet, so earlier entries have nothing left to invalidate here
+        cursor = repository.findLatestId();
+        feedCursor = cursor;
+        highestSeen.set(cursor);
+        contactFeed.release(List.of(), cursor);
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        long pruneMillis = Math.max(retention.toMillis() / 10, 1000);
+        scheduler.scheduleWithFixedDelay(this::prune, pruneMillis, pruneMillis, TimeUnit.MILLISECONDS);
+        log.info("ContentChangePoller: Following change log from id {} every {}", cursor, pollInterval);
+    }
+
+    /**
+     * Read and apply every change committed since the last poll
+     */
+    void poll() {
+        List<ContentChange> changes;
+        do {
+            polls.increment();
+            changes = repository.findAfter(Math.max(cursor, highestSeen.get()), Limit.of(batchSize));
+            List<ContentChange> batch = new ArrayList<>(changes);
+            if (!gaps.isEmpty()) {
+                batch.addAll(repository.findAllById(gaps.keySet()));
+            }
+            apply(batch);
+            recheckExpiredGaps();
+            boolean refresh = advanceCursor();
+            applyLateCommits();
+            if (refresh) {
+                refreshAll();
+            }
+            advanceFeedCursor();
+            releaseContacts();
+        } while (changes.size() == batchSize);
+    }
+
+    private void apply(List<ContentChange> changes) {
+        List<ContentChange> fresh = new ArrayList<>(changes.size());
+        List<ContentChange> lateContacts = new ArrayList<>();
+        for (ContentChange change : changes) {
+            long id = change.getId();
+            if (id <= cursor || !seen.add(id)) {
+                continue;
+            }
+            gaps.remove(id);
+            highestSeen.accumulateAndGet(id, Math::max);
+            if (change.getSection() == PortfolioSection.CONTACTS) {
+                if (id <= feedCursor) {
+                    lateContacts.add(change);
+                } else {
+                    pendingContacts.put(id, change);
+                }
+            }
+            fresh.add(change);
+        }
+        applyRemote(fresh);
+        releaseLateContacts(lateContacts);
+    }
+
+    // Hand other nodes' entries, merged per section, to the service
+    private void applyRemote(List<ContentChange> changes) {
+        Map<PortfolioSection, Set<Long>> changedIds = new EnumMap<>(PortfolioSection.class);
+        Set<PortfolioSection> wholeSections = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (ContentChange change : changes) {
+            if (changeLog.nodeId().equals(change.getOrigin())) {
+                continue;
+            }
+            Set<Long> ids = ContentChangeLog.parseIds(change.getEntityIds());
+            if (ids == null) {
+                wholeSections.add(change.getSection());
+            } else {
+                changedIds.computeIfAbsent(change.getSection(), section -> new HashSet<>()).addAll(ids);
+            }
+            long lag = Math.max(0, Duration.between(change.getChangedAt(), now).toMillis());
+            lastLagMillis.set(lag);
+            maxLagMillis.accumulateAndGet(lag, Math::max);
+            applied.increment();
+        }
+        wholeSections.forEach(section -> changedIds.put(section, null));
+        changedIds.forEach(portfolioService::applyRemoteChange);
+    }
+
+    // One last lookup of the gaps about to be given up on
+    private void recheckExpiredGaps() {
+        long now = System.nanoTime();
+        List<Long> expired = new ArrayList<>();
+        gaps.forEach((id, noticed) -> {
+            if (now - noticed >= gapTimeoutNanos) {
+                expired.add(id);
+            }
+        });
+        if (!expired.isEmpty()) {
+            apply(repository.findAllById(expired));
+        }
+    }
+
+    /**
+     * Move the cursor over applied ids and expired gaps
+     * @return whether a gap was skipped
+     */
+    private boolean advanceCursor() {
+        long now = System.nanoTime();
+        boolean skippedAny = false;
+        long highest = seen.isEmpty() ? cursor : seen.last();
+        for (long id = cursor + 1; id < highest; id++) {
+            if (!seen.contains(id)) {
+                gaps.putIfAbsent(id, now);
+            }
+        }
+        while (cursor < highest) {
+            long next = cursor + 1;
+            if (seen.remove(next)) {
+                cursor = next;
+                continue;
+            }
+            Long noticed = gaps.get(next);
+            if (noticed == null || now - noticed < gapTimeoutNanos) {
+                break;
+            }
+            gaps.remove(next);
+            skipped.put(next, now);
+            if (skipped.size() > MAX_SKIPPED) {
+                Iterator<Long> oldest = skipped.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+            skippedGaps.increment();
+            skippedAny = true;
+            cursor = next;
+        }
+        openGaps = gaps.size();
+        return skippedAny;
+    }
+
+    /**
+     * Apply skipped entries whose transaction has committed since. They are
+     * below the cursor, so their contacts are not sent to the feed; the inbox
+     * shows them.
+     */
+    private void applyLateCommits() {
+        if (skipped.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long retentionNanos = retention.toNanos();
+        skipped.values().removeIf(givenUp -> now - givenUp > retentionNanos);
+        List<ContentChange> late = repository.findAllById(List.copyOf(skipped.keySet()));
+        if (late.isEmpty()) {
+            return;
+        }
+        late.forEach(change -> skipped.remove(change.getId()));
+        lateCommits.add(late.size());
+        log.info("ContentChangePoller: Applying {} change log entries that committed after their gap timed out",
+                late.size());
+        applyRemote(late);
+        releaseLateContacts(late.stream().filter(change -> change.getSection() == PortfolioSection.CONTACTS).toList());
+    }
+
+    /**
+     * A skipped gap may hide a write that has already committed, so reload every
+     * section. Caches, read views, the search index and versions then converge
+     * on the database.
+     */
+    private void refreshAll() {
+        log.warn("ContentChangePoller: Change log gap timed out, refreshing every section");
+        for (PortfolioSection section : PortfolioSection.values()) {
+            portfolioService.applyRemoteChange(section, null);
+        }
+        refreshes.increment();
+    }
+
+    /**
+     * Move the feed cursor over seen ids and over gaps missing for longer than
+     * the feed gap timeout. It never falls behind the main cursor.
+     */
+    private void advanceFeedCursor() {
+        long now = System.nanoTime();
+        feedCursor = Math.max(feedCursor, cursor);
+        long highest = highestSeen.get();
+        while (feedCursor < highest) {
+            long next = feedCursor + 1;
+            Long noticed = gaps.get(next);
+            if (noticed != null && now - noticed < feedGapTimeoutNanos) {
+                break;
+            }
+            feedCursor = next;
+        }
+    }
+
+    /**
+     * Hand the feed every contact entry at or below the feed cursor, in id order
+     */
+    private void releaseContacts() {
+        NavigableMap<Long, ContentChange> settled = pendingContacts.headMap(feedCursor, true);
+        contactFeed.release(new ArrayList<>(settled.values()), feedCursor);
+        // Cleared only once released, so a failed release is retried on the next poll
+        settled.clear();
+    }
+
+    private void releaseLateContacts(List<ContentChange> lateContacts) {
+        if (!lateContacts.isEmpty()) {
+            contactFeed.releaseLate(lateContacts);
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("ContentChangePoller: Poll failed, retrying next interval: {}", e.getMessage());
+        }
+    }
+
+    private void prune() {
+        try {
+            int deleted = repository.deleteOlderThan(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.debug("ContentChangePoller: Pruned {} change log entries", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("ContentChangePoller: Prune failed: {}", e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(changeLog.nodeId(), highestSeen.get(), polls.sum(), applied.sum(), skippedGaps.sum(),
+                lateCommits.sum(), refreshes.sum(), openGaps, failures.sum(), lastLagMillis.get(), maxLagMillis.get());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
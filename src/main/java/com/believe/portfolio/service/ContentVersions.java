@@ -0,0 +1,82 @@
+package com.believe.portfolio.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-section version counters used for HTTP validators (ETag / Last-Modified)
+ * and for detecting stale pre-serialized responses.
+ *
+ * {@link PortfolioService} bumps a section after its data has been written,
+ * its cache entries dropped and change listeners notified, so a reader that
+ * sees the new version is guaranteed to load the new data. ETags carry a per-process epoch so
+ * validators issued before a restart are never mistaken for current ones.
+ */
+@Component
+public class ContentVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<PortfolioSection, AtomicReference<Version>> versions = new EnumMap<>(PortfolioSection.class);
+
+    public ContentVersions() {
+        Version initial = new Version(1, truncateToSeconds(System.currentTimeMillis()));
+        for (PortfolioSection section : PortfolioSection.values()) {
+            versions.put(section, new AtomicReference<>(initial));
+        }
+    }
+
+    /**
+     * Version of a section
+     *
+     * @param number       increases by one on every write
+     * @param lastModified epoch millis of the last write, whole seconds as in HTTP dates
+     */
+    public record Version(long number, long lastModified) {
+    }
+
+    public Version current(PortfolioSection section) {
+        return versions.get(section).get();
+    }
+
+    /**
+     * Combined version of several sections: the sum of their numbers and the
+     * latest of their modification times. Changes whenever any of them changes.
+     */
+    public Version combined(Collection<PortfolioSection> sections) {
+        long number = 0;
+        long lastModified = 0;
+        for (PortfolioSection section : sections) {
+            Version version = current(section);
+            number += version.number();
+            lastModified = Math.max(lastModified, version.lastModified());
+        }
+        return new Version(number, lastModified);
+    }
+
+    /**
+     * Record a write to a section. Last-Modified moves forward by at least one
+     * second per write so If-Modified-Since clients never miss a change made
+     * within the same second.
+     */
+    public Version bump(PortfolioSection section) {
+        long now = truncateToSeconds(System.currentTimeMillis());
+        return versions.get(section).updateAndGet(previous -> new Version(
+                previous.number() + 1,
+                Math.max(now, previous.lastModified() + 1000)));
+    }
+
+    /**
+     * Strong ETag for a resource at the given version
+     */
+    public String eTag(String resource, Version version) {
+        return "\"" + epoch + "-" + resource + "-" + version.number() + "\"";
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis - millis % 1000;
+    }
+}
@@ -0,0 +1,13 @@
+package com.believe.portfolio.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link PortfolioService} after a save has been written to the
+ * database, so read-side components can drop, rebuild or update what they hold.
+ *
+ * @param section the part of the portfolio that was written
+ * @param saved   the entities as returned by the repository, with ids assigned
+ */
+public record PortfolioContentChangedEvent(PortfolioSection section, List<?> saved) {
+}
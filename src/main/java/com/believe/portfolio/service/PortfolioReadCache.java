@@ -0,0 +1,200 @@
+package com.believe.portfolio.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache for the read side of {@link PortfolioService}.
+ *
+ * Entries are grouped by {@link PortfolioSection} so a save only drops the
+ * entries of the section it touched. Each entry expires after a TTL and the
+ * cache never holds more than a fixed number of entries; when full, the oldest
+ * entry is evicted. Cached values are handed out as-is, so callers must store
+ * immutable values.
+ *
+ * Misses are single-flight: while one caller loads a key, concurrent callers
+ * for the same key wait for its result (or its exception) instead of running
+ * the same query, so a cold or freshly invalidated cache costs one load per
+ * key, not one per request. A waiter that is not served within the load
+ * timeout loads the value itself.
+ */
+@Component
+@Slf4j
+public class PortfolioReadCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long loadTimeoutNanos;
+
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<PortfolioSection, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loadTimeouts = new LongAdder();
+
+    public PortfolioReadCache(@Value("${portfolio.cache.enabled:true}") boolean enabled,
+                              @Value("${portfolio.cache.ttl:PT10M}") Duration ttl,
+                              @Value("${portfolio.cache.max-entries:256}") int maxEntries,
+                              @Value("${portfolio.cache.load-timeout:PT5S}") Duration loadTimeout) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.loadTimeoutNanos = loadTimeout.toNanos();
+        for (PortfolioSection section : PortfolioSection.values()) {
+            generations.put(section, new AtomicLong());
+        }
+        log.info("PortfolioReadCache: enabled={}, ttl={}, maxEntries={}, loadTimeout={}",
+                enabled, ttl, maxEntries, loadTimeout);
+    }
+
+    /**
+     * Cache key: the section the value belongs to plus a name within that section
+     */
+    public record CacheKey(PortfolioSection section, String name) {
+    }
+
+    /**
+     * Point-in-time view of the cache counters. Misses are loads actually run;
+     * coalesced counts callers served by another caller's load, loadTimeouts
+     * those that gave up waiting and loaded themselves.
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size,
+                        long coalesced, long loadTimeouts) {
+    }
+
+    private record Entry(Object value, long expiresAt, long loadedAt) {
+    }
+
+    /**
+     * Return the cached value for the key, loading and caching it on a miss.
+     * A value loaded while its section was invalidated is returned to the
+     * caller but not cached, so a racing save is never hidden. A load that
+     * fails throws its exception to every caller waiting on it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(PortfolioSection section, String name, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CacheKey key = new CacheKey(section, name);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            hits.increment();
+            return (T) entry.value();
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return (T) await(key, leader, loader);
+        }
+        try {
+            T value = load(key, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(CacheKey key, CompletableFuture<Object> leader, Supplier<?> loader) {
+        try {
+            Object value = leader.get(loadTimeoutNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return value;
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Loading " + key + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            loadTimeouts.increment();
+            log.warn("PortfolioReadCache: Load of {} still running after {} ms, loading again",
+                    key, TimeUnit.NANOSECONDS.toMillis(loadTimeoutNanos));
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        }
+    }
+
+    private <T> T load(CacheKey key, Supplier<T> loader) {
+        misses.increment();
+        AtomicLong generation = generations.get(key.section());
+        long generationAtLoad = generation.get();
+        T value = loader.get();
+        if (generation.get() == generationAtLoad) {
+            long loadedAt = System.nanoTime();
+            entries.put(key, new Entry(value, loadedAt + ttlNanos, loadedAt));
+            if (generation.get() != generationAtLoad) {
+                entries.remove(key);
+            }
+            evictIfFull();
+        }
+        return value;
+    }
+
+    /**
+     * Drop every cached entry of a section
+     */
+    public void invalidate(PortfolioSection section) {
+        generations.get(section).incrementAndGet();
+        entries.keySet().removeIf(key -> key.section() == section);
+        // Callers arriving from now on must not join a load that started before this write
+        inFlight.keySet().removeIf(key -> key.section() == section);
+        invalidations.increment();
+        log.debug("PortfolioReadCache: Invalidated section {}", section);
+    }
+
+    /**
+     * Drop every cached entry
+     */
+    public void invalidateAll() {
+        for (PortfolioSection section : PortfolioSection.values()) {
+            invalidate(section);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), entries.size(),
+                coalesced.sum(), loadTimeouts.sum());
+    }
+
+    private void evictIfFull() {
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().loadedAt()))
+                    .ifPresent(oldest -> {
+                        if (entries.remove(oldest.getKey(), oldest.getValue())) {
+                            evictions.increment();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.ExperienceView;
+import com.believe.portfolio.dto.SkillView;
+import com.believe.portfolio.entity.Experience;
+import com.believe.portfolio.entity.Skill;
+import com.believe.portfolio.repository.ExperienceRepository;
+import com.believe.portfolio.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Materialized, presorted views of skills and experiences.
+ *
+ * Skills are kept in id order (as served by /api/skills), by proficiency
+ * (highest first) and partitioned by category; experiences as a timeline,
+ * newest start date first. Every list is immutable and built once, so a read
+ * is a field load or one map lookup with no query and no sorting.
+ *
+ * The views are loaded on first use and then maintained from
+ * {@link PortfolioContentChangedEvent}s rather than reloaded. A write of a few
+ * rows removes each one from the affected lists and binary-inserts it again; a
+ * larger batch is sorted on its own and merged into each list in one pass, so
+ * a bulk import costs a copy of the lists rather than a scan per row. Writers
+ * are serialized; readers never lock. With {@code portfolio.cache.enabled=false}
+ * every read loads from the database instead, like the rest of the read path.
+ */
+@Component
+@Slf4j
+public class PortfolioReadViews {
+
+    // Above this many changed rows, lists are rebuilt by one merge instead of per-row inserts
+    private static final int INCREMENTAL_BATCH_LIMIT = 8;
+
+    private static final Comparator<SkillView> SKILLS_BY_ID =
+            Comparator.comparing(SkillView::id);
+    private static final Comparator<SkillView> SKILLS_BY_PROFICIENCY =
+            Comparator.comparing(SkillView::proficiency, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(SkillView::id);
+    private static final Comparator<ExperienceView> EXPERIENCES_BY_START_DATE =
+            Comparator.comparing(ExperienceView::startDate, Comparator.nullsLast(Comparator.<LocalDate>reverseOrder()))
+                    .thenComparing(ExperienceView::id);
+
+    private final SkillRepository skillRepository;
+    private final ExperienceRepository experienceRepository;
+    private final boolean enabled;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile SkillViews skills;
+    private volatile List<ExperienceView> timeline;
+
+    public PortfolioReadViews(SkillRepository skillRepository,
+                              ExperienceRepository experienceRepository,
+                              @Value("${portfolio.cache.enabled:true}") boolean enabled) {
+        this.skillRepository = skillRepository;
+        this.experienceRepository = experienceRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Skills in the three orders served by the API
+     *
+     * @param all           every skill, by id
+     * @param byProficiency every skill, highest proficiency first
+     * @param byCategory    skills of each category, by id
+     */
+    public record SkillViews(List<SkillView> all, List<SkillView> byProficiency,
+                             Map<String, List<SkillView>> byCategory) {
+
+        public List<SkillView> inCategory(String category) {
+            return byCategory.getOrDefault(category, List.of());
+        }
+    }
+
+    public SkillViews skills() {
+        if (!enabled) {
+            return buildSkills(skillRepository.findAllViews());
+        }
+        SkillViews current = skills;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (skills == null) {
+                skills = buildSkills(skillRepository.findAllViews());
+                log.debug("PortfolioReadViews: Loaded {} skills", skills.all().size());
+            }
+            return skills;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Experiences, newest start date first (undated entries last)
+     */
+    public List<ExperienceView> experienceTimeline() {
+        if (!enabled) {
+            return sortedCopy(experienceRepository.findAllViewsOrderByStartDateDesc(), EXPERIENCES_BY_START_DATE);
+        }
+        List<ExperienceView> current = timeline;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (timeline == null) {
+                timeline = sortedCopy(experienceRepository.findAllViewsOrderByStartDateDesc(), EXPERIENCES_BY_START_DATE);
+                log.debug("PortfolioReadViews: Loaded {} experiences", timeline.size());
+            }
+            return timeline;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Apply saved rows to views that are already loaded. A view that is not
+     * loaded yet is left alone: its first load reads the committed rows.
+     */
+    @EventListener
+    public void onContentChanged(PortfolioContentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (event.section() == PortfolioSection.SKILLS && skills != null) {
+                skills = updateSkills(skills, views(event.saved(), SkillView.class, PortfolioReadViews::skillView));
+            } else if (event.section() == PortfolioSection.EXPERIENCES && timeline != null) {
+                List<ExperienceView> changed = views(event.saved(), ExperienceView.class, PortfolioReadViews::experienceView);
+                timeline = List.copyOf(upsert(timeline, changed, ExperienceView::id, EXPERIENCES_BY_START_DATE));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static SkillViews buildSkills(List<SkillView> rows) {
+        List<SkillView> all = sortedCopy(rows, SKILLS_BY_ID);
+        return new SkillViews(all, sortedCopy(rows, SKILLS_BY_PROFICIENCY), byCategory(all));
+    }
+
+    private static Map<String, List<SkillView>> byCategory(List<SkillView> all) {
+        Map<String, List<SkillView>> byCategory = new LinkedHashMap<>();
+        for (SkillView skill : all) {
+            if (skill.category() != null) {
+                byCategory.computeIfAbsent(skill.category(), category -> new ArrayList<>()).add(skill);
+            }
+        }
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+        return Map.copyOf(byCategory);
+    }
+
+    private static SkillViews updateSkills(SkillViews current, List<SkillView> changed) {
+        if (changed.size() > INCREMENTAL_BATCH_LIMIT) {
+            // Partitioning the merged id order keeps each category in id order
+            List<SkillView> all = List.copyOf(upsert(current.all(), changed, SkillView::id, SKILLS_BY_ID));
+            return new SkillViews(all,
+                    List.copyOf(upsert(current.byProficiency(), changed, SkillView::id, SKILLS_BY_PROFICIENCY)),
+                    byCategory(all));
+        }
+        Map<String, List<SkillView>> byCategory = new LinkedHashMap<>(current.byCategory());
+        for (SkillView skill : changed) {
+            // Remove from the category the skill was in before, insert into the one it is in now
+            current.all().stream()
+                    .filter(previous -> previous.id().equals(skill.id()) && previous.category() != null)
+                    .findFirst()
+                    .ifPresent(previous -> byCategory.computeIfPresent(previous.category(), (category, list) ->
+                            withoutId(list, skill.id())));
+            if (skill.category() != null) {
+                byCategory.merge(skill.category(), List.of(skill), (list, added) ->
+                        upsert(list, added, SkillView::id, SKILLS_BY_ID));
+            }
+        }
+        byCategory.values().removeIf(List::isEmpty);
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+        return new SkillViews(
+                List.copyOf(upsert(current.all(), changed, SkillView::id, SKILLS_BY_ID)),
+                List.copyOf(upsert(current.byProficiency(), changed, SkillView::id, SKILLS_BY_PROFICIENCY)),
+                Map.copyOf(byCategory));
+    }
+
+    /**
+     * Copy of a sorted list with the changed rows replaced or inserted at their sorted position
+     */
+    private static <T> List<T> upsert(List<T> sorted, List<T> changed, Function<T, Long> idOf, Comparator<T> order) {
+        if (changed.size() > INCREMENTAL_BATCH_LIMIT) {
+            return merge(sorted, changed, idOf, order);
+        }
+        List<T> result = new ArrayList<>(sorted);
+        for (T row : changed) {
+            result.removeIf(existing -> idOf.apply(existing).equals(idOf.apply(row)));
+            int position = Collections.binarySearch(result, row, order);
+            result.add(position >= 0 ? position : -position - 1, row);
+        }
+        return result;
+    }
+
+    /**
+     * Same result as {@link #upsert} in O(n + m log m): drop the changed ids from the
+     * list, sort the changed rows and merge the two
+     */
+    private static <T> List<T> merge(List<T> sorted, List<T> changed, Function<T, Long> idOf, Comparator<T> order) {
+        // The last version of a row saved twice in the batch wins
+        Map<Long, T> latest = new HashMap<>();
+        for (T row : changed) {
+            latest.put(idOf.apply(row), row);
+        }
+        List<T> added = new ArrayList<>(latest.values());
+        added.sort(order);
+        List<T> result = new ArrayList<>(sorted.size() + added.size());
+        int next = 0;
+        for (T existing : sorted) {
+            if (latest.containsKey(idOf.apply(existing))) {
+                continue;
+            }
+            while (next < added.size() && order.compare(added.get(next), existing) < 0) {
+                result.add(added.get(next++));
+            }
+            result.add(existing);
+        }
+        result.addAll(added.subList(next, added.size()));
+        return result;
+    }
+
+    private static List<SkillView> withoutId(List<SkillView> list, Long id) {
+        return list.stream().filter(skill -> !skill.id().equals(id)).toList();
+    }
+
+    private static <T> List<T> sortedCopy(List<T> rows, Comparator<T> order) {
+        List<T> sorted = new ArrayList<>(rows);
+        sorted.sort(order);
+        return List.copyOf(sorted);
+    }
+
+    // Local saves carry entities, changes from other nodes carry views
+    private static <E, V> List<V> views(List<?> saved, Class<V> viewType, Function<E, V> fromEntity) {
+        List<V> views = new ArrayList<>(saved.size());
+        for (Object item : saved) {
+            if (viewType.isInstance(item)) {
+                views.add(viewType.cast(item));
+            } else {
+                @SuppressWarnings("unchecked")
+                E entity = (E) item;
+                views.add(fromEntity.apply(entity));
+            }
+        }
+        return views;
+    }
+
+    private static SkillView skillView(Skill skill) {
+        return new SkillView(skill.getId(), skill.getName(), skill.getCategory(), skill.getIconUrl(),
+                skill.getProficiency(), skill.getDescription());
+    }
+
+    private static ExperienceView experienceView(Experience experience) {
+        return new ExperienceView(experience.getId(), experience.getTitle(), experience.getCompany(),
+                experience.getLocation(), experience.getStartDate(), experience.getEndDate(), experience.getCurrent(),
+                experience.getDescription(), experience.getCompanyLogoUrl());
+    }
+}
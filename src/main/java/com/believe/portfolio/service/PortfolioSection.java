@@ -0,0 +1,14 @@
+package com.believe.portfolio.service;
+
+/**
+ * Sections of the portfolio read model that can change independently.
+ * Used to tell listeners which part of the data a write touched.
+ */
+public enum PortfolioSection {
+    PROFILE,
+    SKILLS,
+    PROJECTS,
+    HOBBIES,
+    EXPERIENCES,
+    CONTACTS
+}
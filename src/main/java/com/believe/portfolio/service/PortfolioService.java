@@ -1,18 +1,47 @@
 package com.believe.portfolio.service;
 
+import com.believe.portfolio.dto.ContactCursor;
+import com.believe.portfolio.dto.ContactPage;
+import com.believe.portfolio.dto.ContactSummary;
+import com.believe.portfolio.dto.ExperienceView;
+import com.believe.portfolio.dto.HobbyView;
+import com.believe.portfolio.dto.ProfileView;
+import com.believe.portfolio.dto.ProjectView;
+import com.believe.portfolio.dto.SkillView;
+import com.believe.portfolio.dto.TagCount;
 import com.believe.portfolio.entity.*;
 import com.believe.portfolio.entity.Project;
 import com.believe.portfolio.repository.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
 public class PortfolioService {
+
+    private static final int BACKFILL_ATTEMPTS = 3;
     
     @Autowired
     private ProfileRepository profileRepository;
@@ -31,86 +60,378 @@ public class PortfolioService {
     
     @Autowired
     private ContactRepository contactRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PortfolioReadCache readCache;
+
+    @Autowired
+    private ContentVersions contentVersions;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ContentChangeLog changeLog;
+
+    @Autowired
+    private PortfolioReadViews readViews;
+
+    /**
+     * Outcome of a bulk upsert
+     */
+    public record UpsertResult(int inserted, int updated) {
+    }
     
+    // Reads return immutable record projections loaded in read-only transactions:
+    // no managed entities, no dirty checking, and the records can be cached as-is
+
     // Profile methods
     @Nullable
-    public Profile getProfile() {
-        log.debug("PortfolioService: Fetching profile from database");
-        Profile profile = profileRepository.findById(1L).orElse(null);
-        log.debug("PortfolioService: Profile query result - {}", profile != null ? "Found" : "Not found");
-        return profile;
+    public ProfileView getProfile() {
+        return readCache.get(PortfolioSection.PROFILE, "primary", () -> {
+            log.debug("PortfolioService: Fetching profile from database");
+            ProfileView profile = profileRepository.findViewById(1L).orElse(null);
+            log.debug("PortfolioService: Profile query result - {}", profile != null ? "Found" : "Not found");
+            return profile;
+        });
     }
     
-    @SuppressWarnings("null")
     public Profile saveProfile(Profile profile) {
-        return profileRepository.save(profile);
+        return write(PortfolioSection.PROFILE, () -> List.of(profileRepository.save(profile))).get(0);
     }
     
     // Skill methods
-    public List<Skill> getAllSkills() {
-        log.debug("PortfolioService: Fetching all skills from database");
-        List<Skill> skills = skillRepository.findAll();
-        log.debug("PortfolioService: Retrieved {} skills", skills.size());
-        return skills;
+    // Skills and experiences are served from presorted views kept up to date on write (PortfolioReadViews)
+    public List<SkillView> getAllSkills() {
+        return readViews.skills().all();
+    }
+
+    public List<SkillView> getSkillsByCategory(String category) {
+        return readViews.skills().inCategory(category);
     }
 
-    public List<Skill> getSkillsByCategory(String category) {
-        return skillRepository.findByCategory(category);
+    public List<SkillView> getSkillsByProficiency() {
+        return readViews.skills().byProficiency();
     }
     
-    @SuppressWarnings("null")
     public Skill saveSkill(Skill skill) {
-        return skillRepository.save(skill);
+        return write(PortfolioSection.SKILLS, () -> List.of(skillRepository.save(skill))).get(0);
     }
     
     // Project methods
-    public List<Project> getAllProjects() {
-        log.debug("PortfolioService: Fetching all projects from database");
-        List<Project> projects = projectRepository.findAll();
-        log.debug("PortfolioService: Retrieved {} projects", projects.size());
-        return projects;
+    public List<ProjectView> getAllProjects() {
+        return readCache.get(PortfolioSection.PROJECTS, "all", () -> {
+            log.debug("PortfolioService: Fetching all projects from database");
+            List<ProjectView> projects = List.copyOf(projectRepository.findAllViews());
+            log.debug("PortfolioService: Retrieved {} projects", projects.size());
+            return projects;
+        });
     }
 
-    public List<Project> getFeaturedProjects() {
-        return projectRepository.findByFeaturedTrue();
+    public List<ProjectView> getFeaturedProjects() {
+        return readCache.get(PortfolioSection.PROJECTS, "featured",
+                () -> List.copyOf(projectRepository.findFeaturedViews()));
+    }
+    
+    public List<ProjectView> getProjectsByTechnology(String technology) {
+        String slug = Technology.slugOf(technology);
+        return readCache.get(PortfolioSection.PROJECTS, "tag:" + slug,
+                () -> List.copyOf(projectRepository.findViewsByTechnologySlug(slug)));
+    }
+
+    public List<TagCount> getTechnologyCounts() {
+        return readCache.get(PortfolioSection.PROJECTS, "tag-counts",
+                () -> List.copyOf(projectRepository.countProjectsByTechnology()));
     }
     
-    @SuppressWarnings("null")
     public Project saveProject(Project project) {
-        return projectRepository.save(project);
+        return write(PortfolioSection.PROJECTS, () -> {
+            assignTechnologies(List.of(project));
+            return List.of(projectRepository.save(project));
+        }).get(0);
+    }
+
+    /**
+     * Populate project_technology for rows inserted without it (seed data or
+     * rows written before technologies were normalized). Runs once at startup;
+     * projects that already have tags are left alone.
+     *
+     * Nodes starting together against one database race to create the same
+     * tags. The loser's insert hits uk_technology_slug and rolls back; it then
+     * re-reads, finding the winner's tags (and usually its tagged projects),
+     * and tries again. A failure is logged rather than thrown, so it never
+     * stops startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTechnologyTags() {
+        for (int attempt = 1; attempt <= BACKFILL_ATTEMPTS; attempt++) {
+            try {
+                List<Project> untagged = projectRepository.findUntagged();
+                if (untagged.isEmpty()) {
+                    return;
+                }
+                List<Project> saved = write(PortfolioSection.PROJECTS, () -> {
+                    assignTechnologies(untagged);
+                    return projectRepository.saveAll(untagged);
+                });
+                log.info("PortfolioService: Tagged {} projects with technologies", saved.size());
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.info("PortfolioService: Technology tags written concurrently by another node, re-reading (attempt {})",
+                        attempt);
+            } catch (RuntimeException e) {
+                log.warn("PortfolioService: Technology tag backfill failed", e);
+                return;
+            }
+        }
+        log.warn("PortfolioService: Technology tag backfill gave up after {} attempts", BACKFILL_ATTEMPTS);
+    }
+
+    /**
+     * Parse each project's technologies value ("Java, Spring Boot" or ["Java","Spring Boot"])
+     * into tags, loading existing tags and creating missing ones with one query each for the whole list
+     */
+    private void assignTechnologies(List<Project> projects) {
+        List<Map<String, String>> namesBySlugPerProject = new ArrayList<>(projects.size());
+        Map<String, String> allNamesBySlug = new LinkedHashMap<>();
+        for (Project project : projects) {
+            Map<String, String> namesBySlug = parseTechnologies(project.getTechnologies());
+            namesBySlugPerProject.add(namesBySlug);
+            namesBySlug.forEach(allNamesBySlug::putIfAbsent);
+        }
+        Map<String, Technology> tagsBySlug = new HashMap<>();
+        if (!allNamesBySlug.isEmpty()) {
+            technologyRepository.findBySlugIn(allNamesBySlug.keySet()).forEach(tag -> tagsBySlug.put(tag.getSlug(), tag));
+            List<Technology> created = new ArrayList<>();
+            allNamesBySlug.forEach((slug, name) -> {
+                if (!tagsBySlug.containsKey(slug)) {
+                    created.add(new Technology(null, name, slug));
+                }
+            });
+            technologyRepository.saveAll(created).forEach(tag -> tagsBySlug.put(tag.getSlug(), tag));
+        }
+        for (int i = 0; i < projects.size(); i++) {
+            Set<Technology> tags = new HashSet<>();
+            namesBySlugPerProject.get(i).keySet().forEach(slug -> tags.add(tagsBySlug.get(slug)));
+            projects.get(i).setTechnologyTags(tags);
+        }
+    }
+
+    private static Map<String, String> parseTechnologies(String technologies) {
+        Map<String, String> namesBySlug = new LinkedHashMap<>();
+        if (technologies == null) {
+            return namesBySlug;
+        }
+        String list = technologies.strip();
+        if (list.startsWith("[") && list.endsWith("]")) {
+            list = list.substring(1, list.length() - 1);
+        }
+        for (String entry : list.split(",")) {
+            String name = entry.strip().replaceAll("^\"|\"$", "").strip();
+            String slug = Technology.slugOf(name);
+            if (!slug.isEmpty()) {
+                namesBySlug.putIfAbsent(slug, name);
+            }
+        }
+        return namesBySlug;
     }
     
     // Hobby methods
-    public List<Hobby> getAllHobbies() {
-        return hobbyRepository.findAll();
+    public List<HobbyView> getAllHobbies() {
+        return readCache.get(PortfolioSection.HOBBIES, "all",
+                () -> List.copyOf(hobbyRepository.findAllViews()));
     }
     
-    @SuppressWarnings("null")
     public Hobby saveHobby(Hobby hobby) {
-        return hobbyRepository.save(hobby);
+        return write(PortfolioSection.HOBBIES, () -> List.of(hobbyRepository.save(hobby))).get(0);
     }
     
     // Experience methods
-    public List<Experience> getAllExperiences() {
-        log.debug("PortfolioService: Fetching all experiences from database");
-        List<Experience> experiences = experienceRepository.findAllOrderByStartDateDesc();
-        log.debug("PortfolioService: Retrieved {} experiences", experiences.size());
-        return experiences;
+    public List<ExperienceView> getAllExperiences() {
+        return readViews.experienceTimeline();
     }
     
-    @SuppressWarnings("null")
     public Experience saveExperience(Experience experience) {
-        return experienceRepository.save(experience);
+        return write(PortfolioSection.EXPERIENCES, () -> List.of(experienceRepository.save(experience))).get(0);
     }
     
     // Contact methods
     public List<Contact> getAllContacts() {
         return contactRepository.findAllOrderByCreatedAtDesc();
     }
+
+    /**
+     * Load one page of the inbox without message bodies using keyset pagination
+     * @param read   optional read-flag filter
+     * @param cursor position returned with the previous page, or null for the first page
+     * @param limit  maximum number of rows on the page
+     */
+    public ContactPage getContactPage(@Nullable Boolean read, @Nullable ContactCursor cursor, int limit) {
+        // One extra row tells whether another page follows without a count query
+        Limit fetch = Limit.of(limit + 1);
+        List<ContactSummary> rows;
+        if (read == null) {
+            rows = cursor == null
+                    ? contactRepository.findSummaries(fetch)
+                    : contactRepository.findSummariesBefore(cursor.createdAt(), cursor.id(), fetch);
+        } else {
+            rows = cursor == null
+                    ? contactRepository.findSummariesByRead(read, fetch)
+                    : contactRepository.findSummariesByReadBefore(read, cursor.createdAt(), cursor.id(), fetch);
+        }
+        if (rows.size() <= limit) {
+            return new ContactPage(rows, null);
+        }
+        List<ContactSummary> items = rows.subList(0, limit);
+        return new ContactPage(List.copyOf(items), ContactCursor.after(items.get(limit - 1)).encode());
+    }
+
+    @Nullable
+    public Contact getContact(Long id) {
+        return contactRepository.findById(id).orElse(null);
+    }
     
-    @SuppressWarnings("null")
     public Contact saveContact(Contact contact) {
-        return contactRepository.save(contact);
+        return write(PortfolioSection.CONTACTS, () -> List.of(contactRepository.save(contact))).get(0);
     }
-}
 
+    /**
+     * Store a batch of contacts in one transaction using JDBC batch inserts
+     */
+    public List<Contact> saveContacts(List<Contact> contacts) {
+        return write(PortfolioSection.CONTACTS, () -> contactRepository.saveAll(contacts));
+    }
+
+    // Bulk upsert methods
+    // Rows are matched on id, then on their natural key; unmatched rows are inserted.
+    // One transaction per call; caches and versions are invalidated once, after commit.
+
+    public UpsertResult upsertSkills(List<Skill> skills) {
+        return upsert(PortfolioSection.SKILLS, skills, skillRepository, Skill::getId, Skill::setId, Skill::getName,
+                rows -> skillRepository.findByNameIn(rows.stream().map(Skill::getName).toList()), null);
+    }
+
+    public UpsertResult upsertProjects(List<Project> projects) {
+        return upsert(PortfolioSection.PROJECTS, projects, projectRepository, Project::getId, Project::setId, Project::getName,
+                rows -> projectRepository.findByNameIn(rows.stream().map(Project::getName).toList()),
+                this::assignTechnologies);
+    }
+
+    public UpsertResult upsertHobbies(List<Hobby> hobbies) {
+        return upsert(PortfolioSection.HOBBIES, hobbies, hobbyRepository, Hobby::getId, Hobby::setId, Hobby::getName,
+                rows -> hobbyRepository.findByNameIn(rows.stream().map(Hobby::getName).toList()), null);
+    }
+
+    public UpsertResult upsertExperiences(List<Experience> experiences) {
+        return upsert(PortfolioSection.EXPERIENCES, experiences, experienceRepository, Experience::getId, Experience::setId,
+                experience -> experience.getTitle() + '\n' + experience.getCompany(),
+                rows -> experienceRepository.findByCompanyIn(rows.stream().map(Experience::getCompany).toList()), null);
+    }
+
+    private <T> UpsertResult upsert(PortfolioSection section, List<T> rows, JpaRepository<T, Long> repository,
+                                    Function<T, Long> idOf, BiConsumer<T, Long> setId,
+                                    Function<T, String> keyOf, Function<List<T>, List<T>> findByKeys,
+                                    @Nullable Consumer<List<T>> beforeSave) {
+        List<T> saved = new ArrayList<>(rows.size());
+        int[] updated = {0};
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> idsByKey = new HashMap<>();
+            for (T existing : findByKeys.apply(rows)) {
+                idsByKey.putIfAbsent(keyOf.apply(existing), idOf.apply(existing));
+            }
+            Set<Long> requestedIds = new HashSet<>();
+            rows.forEach(row -> {
+                if (idOf.apply(row) != null) {
+                    requestedIds.add(idOf.apply(row));
+                }
+            });
+            Set<Long> existingIds = new HashSet<>();
+            repository.findAllById(requestedIds).forEach(existing -> existingIds.add(idOf.apply(existing)));
+            if (beforeSave != null) {
+                beforeSave.accept(rows);
+            }
+            for (T row : rows) {
+                Long id = idOf.apply(row);
+                if (id == null || !existingIds.contains(id)) {
+                    // An unknown id is ignored: the row is matched on its key or inserted with a new id
+                    id = idsByKey.get(keyOf.apply(row));
+                }
+                setId.accept(row, id);
+                if (id != null) {
+                    updated[0]++;
+                }
+                // Sequence ids are assigned on save without a flush, so a later row with
+                // the same key in this batch updates this one instead of inserting a duplicate
+                T result = repository.save(row);
+                idsByKey.put(keyOf.apply(result), idOf.apply(result));
+                existingIds.add(idOf.apply(result));
+                saved.add(result);
+            }
+            changeLog.record(section, saved);
+        });
+        publishChange(section, saved);
+        log.info("PortfolioService: Upserted {} {} ({} updated)", saved.size(),
+                section.name().toLowerCase(Locale.ROOT), updated[0]);
+        return new UpsertResult(saved.size() - updated[0], updated[0]);
+    }
+
+    // Cache methods
+    public PortfolioReadCache.Stats getCacheStats() {
+        return readCache.stats();
+    }
+
+    /**
+     * Apply a write another node made to the shared database, as read from the
+     * change log: listeners receive the changed rows as read-model views (every
+     * row of the section when ids is null), then caches and versions move on as
+     * for a local save.
+     */
+    public void applyRemoteChange(PortfolioSection section, @Nullable Set<Long> ids) {
+        List<?> changed = switch (section) {
+            case PROFILE -> profileRepository.findViewById(1L).stream().toList();
+            case SKILLS -> select(skillRepository.findAllViews(), SkillView::id, ids);
+            case PROJECTS -> select(projectRepository.findAllViews(), ProjectView::id, ids);
+            case HOBBIES -> select(hobbyRepository.findAllViews(), HobbyView::id, ids);
+            case EXPERIENCES -> select(experienceRepository.findAllViewsOrderByStartDateDesc(), ExperienceView::id, ids);
+            // The contact feed reads remote contacts itself, in change log order
+            case CONTACTS -> List.of();
+        };
+        publishChange(section, changed);
+        log.debug("PortfolioService: Applied remote change to {} ({} rows)", section, changed.size());
+    }
+
+    private static <T> List<T> select(List<T> views, Function<T, Long> idOf, @Nullable Set<Long> ids) {
+        return ids == null ? views : views.stream().filter(view -> ids.contains(idOf.apply(view))).toList();
+    }
+
+    /**
+     * Run a write and append its change log entry in one transaction, then publish it locally
+     */
+    @SuppressWarnings("null")
+    private <T> List<T> write(PortfolioSection section, Supplier<List<T>> write) {
+        List<T> saved = transactionTemplate.execute(status -> {
+            List<T> result = write.get();
+            changeLog.record(section, result);
+            return result;
+        });
+        publishChange(section, saved);
+        return saved;
+    }
+
+    /**
+     * Drop cached reads, let listeners update derived read models, then bump the
+     * section version. Bumping last means a reader that sees the new version
+     * (and hands out its ETag) also sees every derived structure already updated.
+     */
+    private void publishChange(PortfolioSection section, List<?> saved) {
+        readCache.invalidate(section);
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(section, saved));
+        contentVersions.bump(section);
+    }
+}
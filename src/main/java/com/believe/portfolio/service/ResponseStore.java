@@ -0,0 +1,239 @@
+package com.believe.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final response bodies of the read endpoints, serialized once and kept off
+ * heap.
+ *
+ * Each entry holds the JSON, and a gzip copy when the JSON is large enough to
+ * be worth compressing. Both are read-only direct ByteBuffers, together with the
+ * Last-Modified for the content version they were built from and an ETag per
+ * encoding, since the two bodies are different representations. An entry
+ * is rebuilt only when a write bumps the version of one of its sections; until
+ * then a read allocates nothing but a buffer view. Only one thread rebuilds an
+ * entry at a time; the others wait and reuse its result.
+ *
+ * With {@code portfolio.cache.enabled=false} nothing is kept: every read loads
+ * and serializes its body, without a gzip copy, so the response goes through
+ * Tomcat's compression like any other.
+ *
+ * Replaced buffers are released by the garbage collector like any other direct
+ * buffer. Entries are only created for a fixed set of resources, so the store
+ * does not grow with traffic.
+ */
+@Service
+@Slf4j
+public class ResponseStore {
+
+    private static final Map<PortfolioSection, Set<PortfolioSection>> SINGLE_SECTIONS = new EnumMap<>(PortfolioSection.class);
+
+    static {
+        for (PortfolioSection section : PortfolioSection.values()) {
+            SINGLE_SECTIONS.put(section, EnumSet.of(section));
+        }
+    }
+
+    private final ContentVersions contentVersions;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final long gzipMinSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> rebuildLocks = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final AtomicLong directBytes = new AtomicLong();
+
+    public ResponseStore(ContentVersions contentVersions,
+                         ObjectMapper objectMapper,
+                         @Value("${portfolio.cache.enabled:true}") boolean enabled,
+                         @Value("${portfolio.response-store.gzip:true}") boolean gzipEnabled,
+                         @Value("${portfolio.response-store.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.contentVersions = contentVersions;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize.toBytes();
+    }
+
+    /**
+     * Serialized body of one resource at one content version. The buffers are
+     * shared: write a {@link ByteBuffer#duplicate() duplicate}, never the buffer itself.
+     *
+     * @param gzip     gzip-compressed JSON, or null when the JSON is sent uncompressed
+     * @param gzipETag ETag of the gzip copy, null with it
+     * @param empty    the loader returned null, e.g. no profile yet
+     */
+    public record Entry(long version, String eTag, long lastModified, ByteBuffer json, @Nullable ByteBuffer gzip,
+                        @Nullable String gzipETag, boolean empty) {
+    }
+
+    /**
+     * Validators of a resource at the current content version, known without
+     * loading or serializing it
+     *
+     * @param version  current content version number
+     * @param gzipETag ETag of the gzip copy, null when the body is sent uncompressed
+     * @param present  the body at this version is known to hold a value; false when it is
+     *                 empty or not built yet
+     */
+    public record Validators(long version, String eTag, @Nullable String gzipETag, long lastModified,
+                             boolean present) {
+    }
+
+    /**
+     * Store counters; directBytes is the off-heap memory held by current entries
+     */
+    public record Stats(int entries, long hits, long rebuilds, long directBytes) {
+    }
+
+    public Entry get(String resource, PortfolioSection section, Supplier<?> loader) {
+        return get(resource, SINGLE_SECTIONS.get(section), loader);
+    }
+
+    @Nullable
+    public Validators validators(String resource, PortfolioSection section) {
+        return validators(resource, SINGLE_SECTIONS.get(section));
+    }
+
+    /**
+     * Validators the resource's current version is sent with, so a conditional
+     * request can be answered before {@link #get} loads anything
+     * @return null when they depend on a body that was never built
+     */
+    @Nullable
+    public Validators validators(String resource, Set<PortfolioSection> sections) {
+        ContentVersions.Version version = currentVersion(sections);
+        String eTag = contentVersions.eTag(resource, version);
+        if (!enabled) {
+            return new Validators(version.number(), eTag, null, version.lastModified(), false);
+        }
+        Entry entry = entries.get(resource);
+        if (entry == null) {
+            return null;
+        }
+        // Whether there is a gzip copy is taken from the stored entry even when it is stale: a client
+        // can only hold this version's gzip ETag once the entry for this version was built with one
+        return new Validators(version.number(), eTag, entry.gzip() != null ? gzipETag(eTag) : null,
+                version.lastModified(), entry.version() == version.number() && !entry.empty());
+    }
+
+    /**
+     * Get the current body of a resource, serializing the loader's result if a
+     * write happened since the entry was built
+     * @param resource name of the resource, also used in its ETag
+     * @param sections sections the body is built from
+     * @param loader   produces the value to serialize; called only on a rebuild
+     */
+    public Entry get(String resource, Set<PortfolioSection> sections, Supplier<?> loader) {
+        if (!enabled) {
+            return build(resource, currentVersion(sections), loader.get(), false);
+        }
+        Entry entry = entries.get(resource);
+        if (entry != null && entry.version() == currentVersion(sections).number()) {
+            hits.increment();
+            return entry;
+        }
+        ReentrantLock lock = rebuildLocks.computeIfAbsent(resource, name -> new ReentrantLock());
+        lock.lock();
+        try {
+            // Version is read before loading so a write that races with the
+            // rebuild leaves this entry stale instead of hiding the change
+            ContentVersions.Version version = currentVersion(sections);
+            entry = entries.get(resource);
+            if (entry != null && entry.version() == version.number()) {
+                return entry;
+            }
+            Entry rebuilt = build(resource, version, loader.get(), gzipEnabled);
+            Entry previous = entries.put(resource, rebuilt);
+            directBytes.addAndGet(size(rebuilt) - (previous != null ? size(previous) : 0));
+            rebuilds.increment();
+            log.debug("ResponseStore: Rebuilt {} version {} ({} bytes, {} gzipped)", resource, version.number(),
+                    rebuilt.json().capacity(), rebuilt.gzip() != null ? rebuilt.gzip().capacity() : 0);
+            return rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(entries.size(), hits.sum(), rebuilds.sum(), directBytes.get());
+    }
+
+    private ContentVersions.Version currentVersion(Set<PortfolioSection> sections) {
+        return sections.size() == 1
+                ? contentVersions.current(sections.iterator().next())
+                : contentVersions.combined(sections);
+    }
+
+    private Entry build(String resource, ContentVersions.Version version, Object value, boolean compress) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + resource, e);
+        }
+        ByteBuffer gzip = null;
+        if (compress && json.length >= gzipMinSize) {
+            byte[] compressed = gzip(json);
+            if (compressed.length < json.length) {
+                gzip = toDirect(compressed);
+            }
+        }
+        String eTag = contentVersions.eTag(resource, version);
+        return new Entry(version.number(), eTag, version.lastModified(), toDirect(json), gzip,
+                gzip != null ? gzipETag(eTag) : null, value == null);
+    }
+
+    // "<tag>" becomes "<tag>-gz"
+    private static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gz\"";
+    }
+
+    // Built once per write, so spend the CPU on the best ratio
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+
+    private static long size(Entry entry) {
+        return entry.json().capacity() + (entry.gzip() != null ? entry.gzip().capacity() : 0);
+    }
+}
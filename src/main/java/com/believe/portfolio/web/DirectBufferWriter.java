@@ -0,0 +1,51 @@
+package com.believe.portfolio.web;
+
+import jakarta.servlet.ServletOutputStream;
+import org.apache.catalina.connector.CoyoteOutputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes a {@link ByteBuffer} to a servlet response without first copying it
+ * into a heap {@code byte[]}.
+ *
+ * Tomcat's output stream accepts a ByteBuffer and copies it straight into the
+ * connector's socket buffer. Response wrappers that want to stay on that path
+ * implement {@link Sink} and pass the buffer through. Any other stream gets the
+ * bytes through a chunk allocated for the call. A per-thread chunk would be
+ * kept by every virtual thread that ever wrote a response, and this fallback
+ * is rare enough that the short-lived array costs nothing.
+ */
+public final class DirectBufferWriter {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private DirectBufferWriter() {
+    }
+
+    /**
+     * Output stream that can consume a ByteBuffer directly
+     */
+    public interface Sink {
+        void write(ByteBuffer buffer) throws IOException;
+    }
+
+    /**
+     * Write the remaining bytes of the buffer, advancing its position
+     */
+    public static void write(ServletOutputStream out, ByteBuffer buffer) throws IOException {
+        if (out instanceof CoyoteOutputStream coyote) {
+            coyote.write(buffer);
+        } else if (out instanceof Sink sink) {
+            sink.write(buffer);
+        } else {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, buffer.remaining())];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                out.write(chunk, 0, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sequences for skill, project, hobby and experience ids, so Hibernate can
+ * batch their inserts (IDENTITY columns force one round-trip per row).
+ *
+ * Written in Java because each sequence has to start past the ids already
+ * handed out by the identity column, which plain SQL cannot express portably.
+ * Hibernate's pooled optimizer treats a sequence value as the top of a block
+ * of {@value #ALLOCATION_SIZE} ids, so the start is one full block above the
+ * current maximum.
+ */
+public class V3__content_id_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String[] TABLES = {"skill", "project", "hobby", "experience"};
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    result.next();
+                    maxId = result.getLong(1);
+                }
+                statement.execute("CREATE SEQUENCE " + table + "_seq START WITH " + (maxId + ALLOCATION_SIZE + 1)
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+            }
+        }
+    }
+}
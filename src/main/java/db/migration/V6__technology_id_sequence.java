@@ -0,0 +1,30 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sequence for technology ids, so tags created by a bulk project import are
+ * batch inserted like the other content tables (see {@link V3__content_id_sequences}).
+ */
+public class V6__technology_id_sequence extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM technology")) {
+                result.next();
+                maxId = result.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE technology_seq START WITH " + (maxId + ALLOCATION_SIZE + 1)
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+        }
+    }
+}
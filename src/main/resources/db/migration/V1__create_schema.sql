@@ -0,0 +1,88 @@
+-- Baseline schema. Written in the SQL subset shared by H2 and PostgreSQL.
+
+CREATE TABLE profile (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name         VARCHAR(100) NOT NULL,
+    title             VARCHAR(200),
+    bio               TEXT,
+    profile_image_url VARCHAR(500),
+    email             VARCHAR(200),
+    phone             VARCHAR(50),
+    location          VARCHAR(200),
+    linkedin_url      VARCHAR(200),
+    github_url        VARCHAR(200),
+    website_url       VARCHAR(200)
+);
+
+CREATE TABLE skill (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    category    VARCHAR(50),
+    icon_url    VARCHAR(200),
+    proficiency INTEGER NOT NULL,
+    description TEXT
+);
+
+CREATE TABLE project (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(200) NOT NULL,
+    description  TEXT,
+    image_url    VARCHAR(500),
+    github_url   VARCHAR(500),
+    live_url     VARCHAR(500),
+    technologies VARCHAR(500),
+    created_at   DATE,
+    featured     BOOLEAN DEFAULT FALSE
+);
+
+CREATE TABLE technology (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    slug VARCHAR(100) NOT NULL
+);
+
+CREATE UNIQUE INDEX uk_technology_slug ON technology (slug);
+
+CREATE TABLE project_technology (
+    project_id    BIGINT NOT NULL REFERENCES project (id),
+    technology_id BIGINT NOT NULL REFERENCES technology (id),
+    PRIMARY KEY (project_id, technology_id)
+);
+
+CREATE INDEX idx_project_technology_technology_id ON project_technology (technology_id, project_id);
+
+CREATE TABLE hobby (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    description TEXT,
+    image_url   VARCHAR(500),
+    icon_url    VARCHAR(200)
+);
+
+CREATE TABLE experience (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title            VARCHAR(200) NOT NULL,
+    company          VARCHAR(200) NOT NULL,
+    location         VARCHAR(100),
+    start_date       DATE,
+    end_date         DATE,
+    current          BOOLEAN DEFAULT FALSE,
+    description      TEXT,
+    company_logo_url VARCHAR(500)
+);
+
+-- Contact ids are handed out 50 at a time (see Contact.id) so inserts can be batched
+CREATE SEQUENCE contact_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE contact (
+    id         BIGINT PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    email      VARCHAR(200) NOT NULL,
+    subject    VARCHAR(500),
+    message    TEXT NOT NULL,
+    created_at TIMESTAMP,
+    read       BOOLEAN DEFAULT FALSE
+);
+
+CREATE INDEX idx_contact_created_at_id ON contact (created_at, id);
+CREATE INDEX idx_contact_read_created_at_id ON contact (read, created_at, id);
@@ -45,3 +45,6 @@ INSERT INTO hobby (name, description, image_url, icon_url) VALUES
 INSERT INTO experience (title, company, location, start_date, end_date, current, description, company_logo_url) VALUES
 ('Software Engineer', 'BillDesk (IndiaIdeas.com Limited)', 'Mumbai, India', DATE '2021-08-01', DATE '2025-10-12', false, 'Led and took ownership of Card Net backend microservices responsible for critical transaction token generation, overseeing the entire process from development to deployment. Delivered rapid microservice development solutions to meet stringent RBI compliance deadlines to nullify critical data and replace with alternate Identifier within 2 weeks timeline. Played a key role in designing Biller Connect application from scratch for bill/recharge payments. Contributed in logic design to enhance scalability and fault tolerance using Kafka along with throttling mechanism, concurrency/multithreading practices, leveraged caching features which enabled the system to handle 200 TPS. Developed and designed simulators from scratch, saved over 30% of testing time, reduced dependency on external microservices, enabled convenient manual client-side testing, and helped developers test their changes quickly without relying on external services. Developed features with Redis Pub-Sub in the BBPS service and migrated the system from an active-passive to an active-active server architecture, enhancing performance by 50%, ensuring high availability, improving load balancing, and optimizing resource utilization. Mentored a team of five members, guiding them through agile methodologies, continuous improvements & stakeholder communication to enhance collaboration and project efficiency. Acted as a key code reviewer, maintaining code quality, applying design patterns, & resolving critical bugs in production deployments through cross-functional team collaboration. Improved application performance by implementing caching and multi-table approaches, streamlining the archiving process, and reducing table read times. Engaged in the entire Software Development Life Cycle, from requirement discussions and proof of concept design to deploying microservices on UAT and production environments. Conducted Coverity scans and VAPT, implemented necessary fixes, coordinated with the support team, and performed live testing with the product team before the final launch.', '/logos/billdesk-logo.svg'),
 ('Senior Software Engineer', 'Interactive Brokers', 'Mumbai, India', DATE '2025-10-13', NULL, true, 'Leading development initiatives for global trading platforms and financial technology solutions. Working on high-performance, scalable systems handling millions of transactions daily. Contributing to innovative trading technologies, risk management systems, and advanced algorithmic trading platforms. Collaborating with international teams across multiple time zones to deliver cutting-edge financial technology solutions.', '/logos/interactive-brokers-logo.svg');
+
+-- The profile row above was inserted with an explicit id; move the identity past it
+ALTER TABLE profile ALTER COLUMN id RESTART WITH 2;
@@ -0,0 +1,13 @@
+-- Append-only log of content writes, read by every node to keep its in-process caches coherent.
+-- Ids are unique across nodes, but a row becomes visible when its transaction commits, not in id
+-- order: readers must expect a lower id to appear after a higher one (see ContentChangePoller).
+
+CREATE TABLE content_change (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    section    VARCHAR(20) NOT NULL,
+    entity_ids VARCHAR(4000),
+    origin     VARCHAR(64) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_content_change_changed_at ON content_change (changed_at);
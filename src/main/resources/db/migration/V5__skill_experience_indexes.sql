@@ -0,0 +1,5 @@
+-- Category and timeline reads are served from in-memory views; these indexes keep
+-- the loads behind them (and ad-hoc queries) from scanning the tables.
+
+CREATE INDEX idx_skill_category ON skill (category, id);
+CREATE INDEX idx_experience_start_date ON experience (start_date);
@@ -0,0 +1,90 @@
+package com.believe.portfolio.ratelimit;
+
+import com.believe.portfolio.entity.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContactThrottleTests {
+
+	@Test
+	void rateLimiterAllowsBurstThenRejects() {
+		KeyedRateLimiter limiter = new KeyedRateLimiter(3, Duration.ofMinutes(1), 10);
+
+		assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+		assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+		assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+		assertTrue(limiter.tryAcquire("10.0.0.1") > 0);
+		assertEquals(0, limiter.tryAcquire("10.0.0.2"));
+	}
+
+	@Test
+	void rateLimiterRejectsNewKeysWhenFullOfActiveKeys() {
+		KeyedRateLimiter limiter = new KeyedRateLimiter(1, Duration.ofMinutes(1), 2);
+
+		assertEquals(0, limiter.tryAcquire("a"));
+		assertEquals(0, limiter.tryAcquire("b"));
+		assertTrue(limiter.tryAcquire("c") > 0);
+		assertEquals(2, limiter.size());
+	}
+
+	@Test
+	void duplicateMessagesFromOneSenderAreDetectedIgnoringCaseAndPunctuation() {
+		ContactThrottle throttle = throttle();
+
+		Contact first = contact("a@example.com", "Hello, I'd like to connect!");
+		assertEquals(ContactThrottle.Decision.ACCEPT, throttle.check(first));
+		throttle.recordAccepted(first);
+		assertEquals(ContactThrottle.Decision.DUPLICATE, throttle.check(contact(" A@Example.com", "hello  id like to connect")));
+		assertEquals(ContactThrottle.Decision.ACCEPT, throttle.check(contact("a@example.com", "A different message")));
+	}
+
+	@Test
+	void sameMessageFromDifferentSendersIsNotADuplicate() {
+		ContactThrottle throttle = throttle();
+
+		Contact first = contact("a@example.com", "Hello");
+		throttle.recordAccepted(first);
+		assertEquals(ContactThrottle.Decision.ACCEPT, throttle.check(contact("b@example.com", "Hello")));
+	}
+
+	@Test
+	void messageIsOnlyADuplicateOnceAccepted() {
+		ContactThrottle throttle = throttle();
+
+		Contact contact = contact("a@example.com", "Hello");
+		assertEquals(ContactThrottle.Decision.ACCEPT, throttle.check(contact));
+		// Not queued or stored: the retry goes through
+		assertEquals(ContactThrottle.Decision.ACCEPT, throttle.check(contact));
+
+		throttle.recordAccepted(contact);
+		assertEquals(ContactThrottle.Decision.DUPLICATE, throttle.check(contact));
+		// Store failed after acceptance: forgotten so the sender can retry
+		throttle.forget(contact);
+		assertEquals(ContactThrottle.Decision.ACCEPT, throttle.check(contact));
+	}
+
+	@Test
+	void normalizedHashSeparatesSubjectFromMessage() {
+		assertFalse(RecentContentSet.normalizedHash("a@example.com", "ab", "c")
+				== RecentContentSet.normalizedHash("a@example.com", "a", "bc"));
+	}
+
+	private static ContactThrottle throttle() {
+		return new ContactThrottle(true, 5, Duration.ofSeconds(12), 10, Duration.ofMinutes(1),
+				100, Duration.ofMinutes(10), 1024);
+	}
+
+	private static Contact contact(String email, String message) {
+		Contact contact = new Contact();
+		contact.setName("Test");
+		contact.setEmail(email);
+		contact.setSubject("Hi");
+		contact.setMessage(message);
+		return contact;
+	}
+}
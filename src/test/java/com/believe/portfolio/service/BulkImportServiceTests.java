@@ -0,0 +1,104 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.BulkImportResult;
+import com.believe.portfolio.entity.Skill;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkImportServiceTests {
+
+	private final List<List<Skill>> upserts = new ArrayList<>();
+
+	@Test
+	void arrayRowsAreParsedAndValidatedOneByOne() throws IOException {
+		BulkImportResult result = importSkills(service(10, DataSize.ofKilobytes(16)), false, """
+				[{"name": "Java", "proficiency": 90},
+				 {"name": "Go", "proficiency": "high"},
+				 {"name": "", "proficiency": 120},
+				 null]
+				""");
+
+		assertEquals(4, result.received());
+		assertEquals(1, result.inserted());
+		assertEquals(3, result.rejected());
+		assertEquals(List.of("Java"), upserts.get(0).stream().map(Skill::getName).toList());
+
+		List<BulkImportResult.RowError> errors = result.errors();
+		assertEquals(List.of(2, 3, 3, 4), errors.stream().map(BulkImportResult.RowError::row).toList());
+		assertNull(errors.get(0).field());
+		assertEquals("name", errors.get(1).field());
+		assertEquals("proficiency", errors.get(2).field());
+		assertNull(errors.get(3).field());
+	}
+
+	@Test
+	void ndjsonErrorsCarryLineNumbersIncludingBlankLines() throws IOException {
+		BulkImportResult result = importSkills(service(10, DataSize.ofKilobytes(16)), true,
+				"{\"name\": \"Java\", \"proficiency\": 90}\n"
+						+ "\n"
+						+ "{\"name\": \"Go\", \n"
+						+ "{\"name\": \"Rust\", \"proficiency\": 0}\n"
+						+ "{\"name\": \"SQL\", \"proficiency\": 80}\n");
+
+		assertEquals(4, result.received());
+		assertEquals(2, result.inserted());
+		assertEquals(2, result.rejected());
+		assertEquals(List.of(3, 4), result.errors().stream().map(BulkImportResult.RowError::row).toList());
+		assertNull(result.errors().get(0).field());
+		assertEquals("proficiency", result.errors().get(1).field());
+	}
+
+	@Test
+	void rowLimitIsEnforcedWhileReading() {
+		BulkImportService service = service(2, DataSize.ofKilobytes(16));
+
+		assertThrows(IllegalArgumentException.class, () -> importSkills(service, false,
+				"[{\"name\": \"A\", \"proficiency\": 1}, {\"name\": \"B\", \"proficiency\": 1}, {\"name\": \"C\", \"proficiency\": 1}]"));
+		assertThrows(IllegalArgumentException.class, () -> importSkills(service, true,
+				"{\"name\": \"A\", \"proficiency\": 1}\n{\"name\": \"B\", \"proficiency\": 1}\n{\"name\": \"C\", \"proficiency\": 1}\n"));
+		assertTrue(upserts.isEmpty());
+	}
+
+	@Test
+	void bodyLongerThanLimitIsRejected() {
+		BulkImportService service = service(10_000, DataSize.ofBytes(1024));
+		String body = "[" + "{\"name\": \"Skill\", \"proficiency\": 50},".repeat(100) + "{\"name\": \"Last\", \"proficiency\": 50}]";
+
+		assertThrows(BulkImportService.BodyTooLargeException.class, () -> importSkills(service, false, body));
+		assertTrue(upserts.isEmpty());
+	}
+
+	@Test
+	void bodyMustBeAnArray() {
+		BulkImportService service = service(10, DataSize.ofKilobytes(16));
+
+		assertThrows(IllegalArgumentException.class, () -> importSkills(service, false, "{\"name\": \"Java\"}"));
+		assertThrows(IllegalArgumentException.class, () -> importSkills(service, false, "[{\"name\": \"Java\""));
+	}
+
+	private BulkImportService service(int maxRows, DataSize maxBodySize) {
+		return new BulkImportService(Jackson2ObjectMapperBuilder.json().build(),
+				Validation.buildDefaultValidatorFactory().getValidator(), maxRows, maxBodySize);
+	}
+
+	private BulkImportResult importSkills(BulkImportService service, boolean ndjson, String body) throws IOException {
+		return service.importRows(Skill.class, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ndjson,
+				rows -> {
+					upserts.add(rows);
+					return new PortfolioService.UpsertResult(rows.size(), 0);
+				});
+	}
+}
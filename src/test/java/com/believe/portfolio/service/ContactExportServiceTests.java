@@ -0,0 +1,94 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.ContactExportRow;
+import com.believe.portfolio.repository.ContactRepository;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContactExportServiceTests {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 4, 12, 0);
+
+	private final ContactRepository contacts = mock(ContactRepository.class);
+	private final ContactExportService exportService =
+			new ContactExportService(contacts, Jackson2ObjectMapperBuilder.json()
+						.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+						.build());
+
+	@Test
+	void csvQuotesSeparatorsQuotesAndLineBreaks() throws Exception {
+		when(contacts.streamForExport()).thenReturn(Stream.of(
+				new ContactExportRow(1L, "Doe, John", "john@example.com", "Say \"hi\"", "line 1\r\nline 2\nline 3",
+						CREATED_AT, true)));
+
+		assertEquals("id,name,email,subject,message,createdAt,read\r\n"
+				+ "1,\"Doe, John\",john@example.com,\"Say \"\"hi\"\"\",\"line 1\r\nline 2\nline 3\",2024-01-04T12:00:00,true\r\n",
+				export(ContactExportService.Format.CSV, null));
+	}
+
+	@Test
+	void csvWritesNullsAsEmptyFields() throws Exception {
+		when(contacts.streamForExport()).thenReturn(Stream.of(
+				new ContactExportRow(2L, "Jane", "jane@example.com", null, "Hello", null, null)));
+
+		assertEquals("id,name,email,subject,message,createdAt,read\r\n"
+				+ "2,Jane,jane@example.com,,Hello,,false\r\n",
+				export(ContactExportService.Format.CSV, null));
+	}
+
+	@Test
+	void csvNeutralizesFormulas() throws Exception {
+		when(contacts.streamForExport()).thenReturn(Stream.of(
+				new ContactExportRow(3L, "=HYPERLINK(\"http://x\")", "@evil", "+1", "-2\tx", CREATED_AT, false),
+				new ContactExportRow(4L, "\tTab", "a@example.com", "\rCR", "a-b=c", CREATED_AT, false)));
+
+		assertEquals("id,name,email,subject,message,createdAt,read\r\n"
+				+ "3,\"'=HYPERLINK(\"\"http://x\"\")\",\"'@evil\",\"'+1\",\"'-2\tx\",2024-01-04T12:00:00,false\r\n"
+				+ "4,\"'\tTab\",a@example.com,\"'\rCR\",a-b=c,2024-01-04T12:00:00,false\r\n",
+				export(ContactExportService.Format.CSV, null));
+	}
+
+	@Test
+	void ndjsonWritesOneObjectPerLine() throws Exception {
+		when(contacts.streamForExport()).thenReturn(Stream.of(
+				new ContactExportRow(1L, "John", "john@example.com", null, "line 1\nline 2", CREATED_AT, false),
+				new ContactExportRow(2L, "Jane", "jane@example.com", "Hi", "Hello", CREATED_AT, true)));
+
+		assertEquals("{\"id\":1,\"name\":\"John\",\"email\":\"john@example.com\",\"subject\":null,"
+				+ "\"message\":\"line 1\\nline 2\",\"createdAt\":\"2024-01-04T12:00:00\",\"read\":false}\n"
+				+ "{\"id\":2,\"name\":\"Jane\",\"email\":\"jane@example.com\",\"subject\":\"Hi\","
+				+ "\"message\":\"Hello\",\"createdAt\":\"2024-01-04T12:00:00\",\"read\":true}\n",
+				export(ContactExportService.Format.NDJSON, null));
+	}
+
+	@Test
+	void sinceSelectsTheFilteredQuery() throws Exception {
+		LocalDateTime since = CREATED_AT.minusDays(1);
+		when(contacts.streamForExportSince(since)).thenReturn(Stream.of(
+				new ContactExportRow(5L, "Jane", "jane@example.com", "Hi", "Hello", CREATED_AT, false)));
+
+		assertEquals("id,name,email,subject,message,createdAt,read\r\n"
+				+ "5,Jane,jane@example.com,Hi,Hello,2024-01-04T12:00:00,false\r\n",
+				export(ContactExportService.Format.CSV, since));
+		verify(contacts).streamForExportSince(since);
+		verify(contacts, never()).streamForExport();
+	}
+
+	private String export(ContactExportService.Format format, LocalDateTime since) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.export(format, since, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,133 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.entity.Contact;
+import com.believe.portfolio.entity.ContentChange;
+import com.believe.portfolio.repository.ContentChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * The replay buffer holds a single event, so a reconnect is replayed from the change log.
+ */
+@SpringBootTest(properties = {
+		"portfolio.change-log.poll-interval=50ms",
+		"portfolio.contacts.feed.replay-size=1",
+		"portfolio.contacts.feed.max-replay=2"})
+@AutoConfigureMockMvc
+class ContactFeedServiceTests {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private ContactFeedService contactFeed;
+
+	@Autowired
+	private ContentChangeRepository changes;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void reconnectReplaysEntriesAfterLastEventId() throws Exception {
+		long first = saveContact("Replay One");
+		saveContact("Replay Two");
+		long third = saveContact("Replay Three");
+		awaitPosition(third);
+
+		String body = awaitBody(subscribe(first), "id:" + third);
+
+		assertFalse(body.contains("Replay One"));
+		assertTrue(body.indexOf("Replay Two") < body.indexOf("Replay Three"));
+		assertFalse(body.contains("event:reset"));
+	}
+
+	@Test
+	void reconnectOwedMoreThanMaxReplayGetsAReset() throws Exception {
+		long first = saveContact("Backlog One");
+		saveContact("Backlog Two");
+		saveContact("Backlog Three");
+		long fourth = saveContact("Backlog Four");
+		awaitPosition(fourth);
+
+		String body = awaitBody(subscribe(first), "too-many-events");
+
+		assertTrue(body.contains("event:reset"));
+		assertFalse(body.contains("Backlog Two"));
+	}
+
+	@Test
+	void unknownLastEventIdGetsAReset() throws Exception {
+		long position = contactFeed.stats().position();
+
+		String body = awaitBody(subscribe(position + 1000), "unknown-event-id");
+
+		assertTrue(body.contains("event:reset"));
+	}
+
+	@Test
+	void rolledBackWriteDoesNotHoldBackTheFeed() throws Exception {
+		// The rolled-back insert still uses up an IDENTITY value, leaving a gap below the contact's entry
+		transactionTemplate.executeWithoutResult(status -> {
+			changes.save(new ContentChange(null, PortfolioSection.SKILLS, null, "rolled-back", LocalDateTime.now()));
+			status.setRollbackOnly();
+		});
+		long entry = saveContact("After Rollback");
+
+		// Well within the change log's 30 s gap timeout
+		awaitPosition(entry);
+	}
+
+	private long saveContact(String name) {
+		Contact contact = new Contact();
+		contact.setName(name);
+		contact.setEmail(name.toLowerCase().replace(' ', '.') + "@example.com");
+		contact.setMessage("Hello from " + name);
+		contact.setCreatedAt(LocalDateTime.now());
+		portfolioService.saveContact(contact);
+		return changes.findLatestId();
+	}
+
+	private void awaitPosition(long id) throws InterruptedException {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (contactFeed.stats().position() < id && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(contactFeed.stats().position() >= id, "feed did not reach change log id " + id);
+	}
+
+	private MvcResult subscribe(long lastEventId) throws Exception {
+		return mockMvc.perform(get("/api/contacts/feed").header("Last-Event-ID", lastEventId))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+	}
+
+	private static String awaitBody(MvcResult result, String expected) throws Exception {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		String body = result.getResponse().getContentAsString();
+		while (!body.contains(expected) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+			body = result.getResponse().getContentAsString();
+		}
+		assertTrue(body.contains(expected), "expected " + expected + " in " + body);
+		return body;
+	}
+}
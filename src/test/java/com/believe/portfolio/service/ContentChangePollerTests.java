@@ -0,0 +1,144 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.PortfolioApplication;
+import com.believe.portfolio.entity.Skill;
+import com.believe.portfolio.repository.ContentChangeRepository;
+import com.believe.portfolio.repository.SkillRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application contexts sharing one in-memory database stand in for two nodes.
+ */
+class ContentChangePollerTests {
+
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+	private static final Duration CONVERGENCE_BOUND = Duration.ofSeconds(2);
+	private static final Duration GAP_TIMEOUT = Duration.ofMillis(500);
+
+	private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+	@AfterEach
+	void stopNodes() {
+		nodes.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void nodesConvergeUnderConcurrentWrites() throws Exception {
+		String url = "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+		PortfolioService nodeA = startNode(url).getBean(PortfolioService.class);
+		ConfigurableApplicationContext contextB = startNode(url);
+		PortfolioService nodeB = contextB.getBean(PortfolioService.class);
+		SkillRepository skills = contextB.getBean(SkillRepository.class);
+
+		// Fill both caches, then write from both nodes at once
+		nodeA.getAllSkills();
+		nodeB.getAllSkills();
+		try (ExecutorService writers = Executors.newFixedThreadPool(4)) {
+			List<Future<?>> writes = new ArrayList<>();
+			for (int writer = 0; writer < 4; writer++) {
+				PortfolioService node = writer % 2 == 0 ? nodeA : nodeB;
+				int id = writer;
+				writes.add(writers.submit(() -> {
+					for (int i = 0; i < 25; i++) {
+						node.saveSkill(skill("Writer " + id + " skill " + i));
+					}
+				}));
+			}
+			for (Future<?> write : writes) {
+				write.get();
+			}
+		}
+
+		long expected = skills.count();
+		long start = System.nanoTime();
+		long deadline = start + CONVERGENCE_BOUND.toNanos();
+		while ((nodeA.getAllSkills().size() != expected || nodeB.getAllSkills().size() != expected)
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, nodeA.getAllSkills().size());
+		assertEquals(expected, nodeB.getAllSkills().size());
+		assertTrue(nodes.get(0).getBean(ContentChangePoller.class).stats().applied() > 0);
+		assertTrue(nodes.get(1).getBean(ContentChangePoller.class).stats().applied() > 0);
+	}
+
+	@Test
+	void skippedGapRefreshesEverySectionAndLateCommitStillApplies() throws Exception {
+		ConfigurableApplicationContext context = startNode("jdbc:h2:mem:gap-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+				"portfolio.change-log.gap-timeout=" + GAP_TIMEOUT.toMillis() + "ms");
+		PortfolioService node = context.getBean(PortfolioService.class);
+		ContentChangePoller poller = context.getBean(ContentChangePoller.class);
+		JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+		long latest = context.getBean(ContentChangeRepository.class).findLatestId();
+		node.getAllSkills();
+
+		// Another node commits entry latest + 2 while the transaction holding latest + 1 is still running
+		insertRemoteSkill(jdbc, latest + 2, 900_002L, "Committed first");
+		awaitSkill(node, 900_002L);
+		long deadline = System.nanoTime() + GAP_TIMEOUT.plus(CONVERGENCE_BOUND).toNanos();
+		while (poller.stats().refreshes() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, poller.stats().skippedGaps());
+		assertEquals(1, poller.stats().refreshes());
+
+		// The slow transaction commits after its gap was given up on
+		insertRemoteSkill(jdbc, latest + 1, 900_001L, "Committed late");
+		awaitSkill(node, 900_001L);
+		assertEquals(1, poller.stats().lateCommits());
+	}
+
+	private static void insertRemoteSkill(JdbcTemplate jdbc, long changeId, long skillId, String name) {
+		jdbc.update("INSERT INTO skill (id, name, category, proficiency) VALUES (?, ?, 'Backend', 50)", skillId, name);
+		jdbc.update("INSERT INTO content_change (id, section, entity_ids, origin, changed_at) "
+				+ "VALUES (?, 'SKILLS', ?, 'other-node', CURRENT_TIMESTAMP)", changeId, Long.toString(skillId));
+	}
+
+	private static void awaitSkill(PortfolioService node, long id) throws InterruptedException {
+		long deadline = System.nanoTime() + CONVERGENCE_BOUND.toNanos();
+		while (node.getAllSkills().stream().noneMatch(skill -> skill.id() == id) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(node.getAllSkills().stream().anyMatch(skill -> skill.id() == id));
+	}
+
+	// Passed as command line arguments: builder properties are defaults that application.properties overrides
+	private ConfigurableApplicationContext startNode(String url, String... properties) {
+		List<String> args = new ArrayList<>(List.of(
+				"--spring.datasource.url=" + url,
+				"--portfolio.change-log.poll-interval=" + POLL_INTERVAL.toMillis() + "ms",
+				"--logging.level.com.believe.portfolio=WARN"));
+		for (String property : properties) {
+			args.add("--" + property);
+		}
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(PortfolioApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(args.toArray(String[]::new));
+		nodes.add(context);
+		return context;
+	}
+
+	private static Skill skill(String name) {
+		Skill skill = new Skill();
+		skill.setName(name);
+		skill.setCategory("Backend");
+		skill.setProficiency(80);
+		return skill;
+	}
+}
@@ -0,0 +1,166 @@
+package com.believe.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PortfolioReadCacheTests {
+
+	@Test
+	void servesCachedValueUntilSectionIsInvalidated() {
+		PortfolioReadCache cache = new PortfolioReadCache(true, Duration.ofMinutes(10), 16, Duration.ofSeconds(5));
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(PortfolioSection.SKILLS, "all", () -> List.of(loads.incrementAndGet()));
+		cache.get(PortfolioSection.SKILLS, "all", () -> List.of(loads.incrementAndGet()));
+		assertEquals(1, loads.get());
+
+		cache.invalidate(PortfolioSection.PROJECTS);
+		cache.get(PortfolioSection.SKILLS, "all", () -> List.of(loads.incrementAndGet()));
+		assertEquals(1, loads.get());
+
+		cache.invalidate(PortfolioSection.SKILLS);
+		cache.get(PortfolioSection.SKILLS, "all", () -> List.of(loads.incrementAndGet()));
+		assertEquals(2, loads.get());
+
+		PortfolioReadCache.Stats stats = cache.stats();
+		assertEquals(2, stats.hits());
+		assertEquals(2, stats.misses());
+	}
+
+	@Test
+	void evictsOldestEntryWhenFull() {
+		PortfolioReadCache cache = new PortfolioReadCache(true, Duration.ofMinutes(10), 2, Duration.ofSeconds(5));
+
+		cache.get(PortfolioSection.SKILLS, "category:a", () -> "a");
+		cache.get(PortfolioSection.SKILLS, "category:b", () -> "b");
+		cache.get(PortfolioSection.SKILLS, "category:c", () -> "c");
+
+		assertEquals(2, cache.stats().size());
+		assertEquals(1, cache.stats().evictions());
+	}
+
+	@Test
+	void expiredEntriesAreReloaded() {
+		PortfolioReadCache cache = new PortfolioReadCache(true, Duration.ZERO, 16, Duration.ofSeconds(5));
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(PortfolioSection.HOBBIES, "all", loads::incrementAndGet);
+		cache.get(PortfolioSection.HOBBIES, "all", loads::incrementAndGet);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void concurrentMissesShareOneLoad() throws Exception {
+		PortfolioReadCache cache = new PortfolioReadCache(true, Duration.ofMinutes(10), 16, Duration.ofSeconds(5));
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		int callers = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			results.add(executor.submit(() -> cache.get(PortfolioSection.PROJECTS, "all", () -> {
+				loads.incrementAndGet();
+				loading.countDown();
+				await(release);
+				return "projects";
+			})));
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+			List<Thread> waiters = new CopyOnWriteArrayList<>();
+			for (int i = 1; i < callers; i++) {
+				results.add(executor.submit(() -> {
+					waiters.add(Thread.currentThread());
+					return cache.get(PortfolioSection.PROJECTS, "all", () -> {
+						loads.incrementAndGet();
+						return "projects";
+					});
+				}));
+			}
+			waitUntilBlocked(waiters, callers - 1);
+			release.countDown();
+
+			for (Future<Object> result : results) {
+				assertEquals("projects", result.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.stats().misses());
+		assertEquals(callers - 1, cache.stats().coalesced());
+	}
+
+	@Test
+	void failedLoadIsThrownToWaiters() throws Exception {
+		PortfolioReadCache cache = new PortfolioReadCache(true, Duration.ofMinutes(10), 16, Duration.ofSeconds(5));
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> leader = executor.submit(() -> cache.get(PortfolioSection.HOBBIES, "all", () -> {
+				loading.countDown();
+				await(release);
+				throw new IllegalStateException("database down");
+			}));
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+			List<Thread> waiters = new CopyOnWriteArrayList<>();
+			Future<Object> waiter = executor.submit(() -> {
+				waiters.add(Thread.currentThread());
+				return cache.get(PortfolioSection.HOBBIES, "all", () -> "hobbies");
+			});
+			waitUntilBlocked(waiters, 1);
+			release.countDown();
+
+			assertInstanceOf(IllegalStateException.class, cause(leader));
+			assertInstanceOf(IllegalStateException.class, cause(waiter));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Failures are not cached
+		assertEquals("hobbies", cache.get(PortfolioSection.HOBBIES, "all", () -> "hobbies"));
+	}
+
+	// Callers that arrive after the load completes would be cache hits, not waiters
+	private static void waitUntilBlocked(List<Thread> threads, int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline && (threads.size() < count
+				|| threads.stream().anyMatch(thread -> thread.getState() != Thread.State.TIMED_WAITING))) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Throwable cause(Future<?> future) throws Exception {
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			return null;
+		} catch (ExecutionException e) {
+			return e.getCause();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.dto.SkillView;
+import com.believe.portfolio.entity.Skill;
+import com.believe.portfolio.repository.ExperienceRepository;
+import com.believe.portfolio.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PortfolioReadViewsTests {
+
+	@Test
+	void writesUpdateLoadedViewsInPlace() {
+		SkillRepository skills = mock(SkillRepository.class);
+		when(skills.findAllViews()).thenReturn(List.of(
+				new SkillView(1L, "Java", "Backend", null, 90, null),
+				new SkillView(2L, "React", "Frontend", null, 70, null),
+				new SkillView(3L, "SQL", "Backend", null, 80, null)));
+		PortfolioReadViews views = new PortfolioReadViews(skills, mock(ExperienceRepository.class), true);
+
+		assertEquals(List.of(1L, 3L, 2L), ids(views.skills().byProficiency()));
+		assertEquals(List.of(1L, 3L), ids(views.skills().inCategory("Backend")));
+
+		// React moves to Backend with the highest proficiency; a new skill is added
+		views.onContentChanged(new PortfolioContentChangedEvent(PortfolioSection.SKILLS, List.of(
+				new Skill(2L, "React", "Backend", null, 95, null),
+				new Skill(4L, "Go", "Backend", null, 60, null))));
+
+		assertEquals(List.of(1L, 2L, 3L, 4L), ids(views.skills().all()));
+		assertEquals(List.of(2L, 1L, 3L, 4L), ids(views.skills().byProficiency()));
+		assertEquals(List.of(1L, 2L, 3L, 4L), ids(views.skills().inCategory("Backend")));
+		assertEquals(List.of(), views.skills().inCategory("Frontend"));
+		verify(skills, times(1)).findAllViews();
+	}
+
+	@Test
+	void largeBatchMatchesAFreshLoad() {
+		List<SkillView> initial = new ArrayList<>();
+		for (long id = 1; id <= 20; id++) {
+			initial.add(new SkillView(id, "Skill " + id, id % 2 == 0 ? "Backend" : "Frontend", null, (int) (id * 7 % 100), null));
+		}
+		SkillRepository skills = mock(SkillRepository.class);
+		when(skills.findAllViews()).thenReturn(initial);
+		PortfolioReadViews views = new PortfolioReadViews(skills, mock(ExperienceRepository.class), true);
+		views.skills();
+
+		// Updates that change category and proficiency, new rows, and one row saved twice
+		List<Skill> batch = new ArrayList<>();
+		for (long id = 15; id <= 30; id++) {
+			batch.add(new Skill(id, "Skill " + id, id % 3 == 0 ? "Data" : "Backend", null, id == 25 ? null : (int) (id * 13 % 100), null));
+		}
+		batch.add(new Skill(16L, "Skill 16", "Frontend", null, 99, null));
+		views.onContentChanged(new PortfolioContentChangedEvent(PortfolioSection.SKILLS, List.copyOf(batch)));
+
+		Map<Long, SkillView> expectedRows = new LinkedHashMap<>();
+		initial.forEach(skill -> expectedRows.put(skill.id(), skill));
+		batch.forEach(skill -> expectedRows.put(skill.getId(), new SkillView(skill.getId(), skill.getName(),
+				skill.getCategory(), null, skill.getProficiency(), null)));
+		SkillRepository reloaded = mock(SkillRepository.class);
+		when(reloaded.findAllViews()).thenReturn(List.copyOf(expectedRows.values()));
+		PortfolioReadViews.SkillViews expected =
+				new PortfolioReadViews(reloaded, mock(ExperienceRepository.class), true).skills();
+
+		assertEquals(expected.all(), views.skills().all());
+		assertEquals(expected.byProficiency(), views.skills().byProficiency());
+		assertEquals(expected.byCategory(), views.skills().byCategory());
+	}
+
+	private static List<Long> ids(List<SkillView> skills) {
+		return skills.stream().map(SkillView::id).toList();
+	}
+}
@@ -0,0 +1,53 @@
+package com.believe.portfolio.service;
+
+import com.believe.portfolio.entity.Skill;
+import com.believe.portfolio.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class PortfolioServiceUpsertTests {
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Test
+	void rowsAreMatchedOnIdThenOnNaturalKey() {
+		Skill byId = portfolioService.saveSkill(skill(null, "Upsert by id", 50));
+		Skill byName = portfolioService.saveSkill(skill(null, "Upsert by name", 50));
+		long unknownId = byName.getId() + 1_000_000;
+
+		PortfolioService.UpsertResult result = portfolioService.upsertSkills(List.of(
+				skill(byId.getId(), "Upsert by id (renamed)", 60),
+				// Unknown id: matched on the name instead
+				skill(unknownId, "Upsert by name", 70),
+				skill(null, "Upsert new", 80),
+				// Same name later in the batch: updates the row inserted just before
+				skill(null, "Upsert new", 85)));
+
+		assertEquals(1, result.inserted());
+		assertEquals(3, result.updated());
+
+		Skill renamed = skillRepository.findById(byId.getId()).orElseThrow();
+		assertEquals("Upsert by id (renamed)", renamed.getName());
+		assertEquals(60, renamed.getProficiency());
+		assertEquals(70, skillRepository.findById(byName.getId()).orElseThrow().getProficiency());
+		assertFalse(skillRepository.existsById(unknownId));
+		List<Skill> inserted = skillRepository.findByNameIn(List.of("Upsert new"));
+		assertEquals(1, inserted.size());
+		assertEquals(85, inserted.get(0).getProficiency());
+	}
+
+	private static Skill skill(Long id, String name, int proficiency) {
+		return new Skill(id, name, "Backend", null, proficiency, null);
+	}
+}